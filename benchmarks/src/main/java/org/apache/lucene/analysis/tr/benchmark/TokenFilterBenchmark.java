@@ -0,0 +1,229 @@
+package org.apache.lucene.analysis.tr.benchmark;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import org.apache.lucene.analysis.TokenFilterFactory;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.Tokenizer;
+import org.apache.lucene.analysis.standard.StandardTokenizer;
+import org.apache.lucene.analysis.tr.ApostropheFilter;
+import org.apache.lucene.analysis.tr.DilbazStemFilterFactory;
+import org.apache.lucene.analysis.tr.TRMorphStemFilterFactory;
+import org.apache.lucene.analysis.tr.TurkishDeASCIIfyFilterFactory;
+import org.apache.lucene.analysis.tr.TurkishLowerCaseFilter;
+import org.apache.lucene.analysis.tr.Zemberek2DeASCIIfyFilterFactory;
+import org.apache.lucene.analysis.tr.Zemberek2StemFilterFactory;
+import org.apache.lucene.analysis.tr.Zemberek3StemFilterFactory;
+import org.apache.lucene.analysis.tr.util.PatternTableFactory;
+import org.apache.lucene.util.ClasspathResourceLoader;
+import org.apache.lucene.util.ResourceLoaderAware;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of each Turkish token filter over a bundled text sample, behind the usual
+ * StandardTokenizer, ApostropheFilter and TurkishLowerCaseFilter chain. The primary score counts passes
+ * over the sample; the {@code tokens} counter gives tokens per second. Allocation rate is reported with
+ * {@code -prof gc}:
+ * <pre>
+ * java -jar target/benchmarks.jar TokenFilterBenchmark -prof gc
+ * java -jar target/benchmarks.jar TokenFilterBenchmark.singleThreaded -p filter=deascii
+ * </pre>
+ * Deasciifiers read the sample with its Turkish characters replaced by their ascii equivalents.
+ * TRMorphStemFilter talks to a shell script standing in for flookup, so it measures the filter and the
+ * process round trips, not foma.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class TokenFilterBenchmark {
+
+    @Param({"zemberek3", "zemberek2", "zemberek2deascii", "deascii", "trmorph", "dilbaz"})
+    public String filter;
+
+    private TokenFilterFactory factory;
+    private String text;
+    private Path tmp;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        final String sample = resource("sample.txt");
+        final Map<String, String> args = new HashMap<>();
+
+        switch (filter) {
+            case "zemberek3":
+                factory = new Zemberek3StemFilterFactory(args);
+                text = sample;
+                break;
+            case "zemberek2":
+                factory = new Zemberek2StemFilterFactory(args);
+                text = sample;
+                break;
+            case "zemberek2deascii":
+                factory = new Zemberek2DeASCIIfyFilterFactory(args);
+                text = asciify(sample);
+                break;
+            case "deascii":
+                factory = new TurkishDeASCIIfyFilterFactory(args);
+                text = asciify(sample);
+                break;
+            case "dilbaz":
+                factory = new DilbazStemFilterFactory(args);
+                text = sample;
+                break;
+            case "trmorph":
+                tmp = Files.createTempDirectory("flookup");
+                final Path lookup = tmp.resolve("flookup");
+                Files.write(lookup, resource("flookup.sh").getBytes(StandardCharsets.UTF_8));
+                if (!lookup.toFile().setExecutable(true))
+                    throw new IOException("cannot make " + lookup + " executable");
+                args.put("lookup", lookup.toAbsolutePath().toString());
+                args.put("fst", Files.createFile(tmp.resolve("stem.fst")).toAbsolutePath().toString());
+                args.put("processes", Integer.toString(Runtime.getRuntime().availableProcessors()));
+                factory = new TRMorphStemFilterFactory(args);
+                text = sample;
+                break;
+            default:
+                throw new IllegalArgumentException("unknown filter: " + filter);
+        }
+
+        if (factory instanceof ResourceLoaderAware)
+            ((ResourceLoaderAware) factory).inform(new ClasspathResourceLoader(TokenFilterBenchmark.class));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        if (factory instanceof Closeable)
+            ((Closeable) factory).close();
+        if (tmp != null) {
+            Files.deleteIfExists(tmp.resolve("flookup"));
+            Files.deleteIfExists(tmp.resolve("stem.fst"));
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    private static String resource(String name) throws IOException {
+        try (InputStream in = TokenFilterBenchmark.class.getResourceAsStream(name)) {
+            if (in == null)
+                throw new IOException("cannot find resource " + name);
+            final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            final byte[] chunk = new byte[8192];
+            int n;
+            while ((n = in.read(chunk)) != -1) {
+                bytes.write(chunk, 0, n);
+            }
+            return new String(bytes.toByteArray(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static String asciify(String text) {
+        final char[] chars = text.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            final Character ascii = PatternTableFactory.turkish_asciify_table.get(chars[i]);
+            if (ascii != null) chars[i] = ascii;
+        }
+        return new String(chars);
+    }
+
+    /**
+     * An analysis chain per thread, reused for every pass like an Analyzer reuses its components.
+     */
+    @State(Scope.Thread)
+    public static class Chain {
+
+        private Tokenizer tokenizer;
+        private TokenStream stream;
+
+        @Setup(Level.Trial)
+        public void setup(TokenFilterBenchmark benchmark) {
+            tokenizer = new StandardTokenizer();
+            stream = benchmark.factory.create(new TurkishLowerCaseFilter(new ApostropheFilter(tokenizer)));
+        }
+
+        long analyze(String text) throws IOException {
+            tokenizer.setReader(new StringReader(text));
+            stream.reset();
+            long count = 0;
+            while (stream.incrementToken()) {
+                count++;
+            }
+            stream.end();
+            stream.close();
+            return count;
+        }
+    }
+
+    /**
+     * Reported by JMH as tokens per second.
+     */
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class Tokens {
+
+        public long tokens;
+
+        @Setup(Level.Iteration)
+        public void clear() {
+            tokens = 0;
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public long singleThreaded(Chain chain, Tokens tokens) throws IOException {
+        final long count = chain.analyze(text);
+        tokens.tokens += count;
+        return count;
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public long multiThreaded(Chain chain, Tokens tokens) throws IOException {
+        final long count = chain.analyze(text);
+        tokens.tokens += count;
+        return count;
+    }
+}
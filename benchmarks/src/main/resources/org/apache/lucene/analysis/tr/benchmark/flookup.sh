@@ -0,0 +1,9 @@
+#!/bin/sh
+# Stands in for foma's flookup: answers every word read from standard input,
+# stripping a plural suffix if there is one, and prints a blank line after each answer.
+while IFS= read -r w; do
+  case "$w" in
+    *lar|*ler) printf '%s\t%s<N><pl>\n\n' "$w" "${w%???}" ;;
+    *) printf '%s\t%s+?\n\n' "$w" "$w" ;;
+  esac
+done
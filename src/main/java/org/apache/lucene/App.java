@@ -17,62 +17,28 @@ package org.apache.lucene;
  * limitations under the License.
  */
 
+import org.apache.lucene.analysis.tr.util.PatternMatcher;
+import org.apache.lucene.analysis.tr.util.PatternTableFactory;
+
 import java.io.IOException;
-import java.io.PrintWriter;
-import java.nio.charset.StandardCharsets;
+import java.io.OutputStream;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.LinkedHashMap;
-import java.util.Map;
 
 /**
- * Generates following classes: MapC.java MapI.java MapS.javaMapG.java MapO.java MapU.java
- * from <a href="http://www.denizyuret.com/2006/11/emacs-turkish-mode.html">turkish.el</a>
+ * Compiles the decision lists of <a href="http://www.denizyuret.com/2006/11/emacs-turkish-mode.html">turkish.el</a>
+ * into the binary pattern tables read by {@link PatternTableFactory}, one per accented character.
+ * Run at build time with the output directory of the classes as argument.
  */
 public class App {
 
-    static final String footer = "        }}\n" +
-            "    );\n" +
-            "}\n";
-
-    static final String header = "package org.apache.lucene.analysis.tr.util;\n" +
-            "\n" +
-            "/*\n" +
-            " * Licensed to the Apache Software Foundation (ASF) under one or more\n" +
-            " * contributor license agreements.  See the NOTICE file distributed with\n" +
-            " * this work for additional information regarding copyright ownership.\n" +
-            " * The ASF licenses this file to You under the Apache License, Version 2.0\n" +
-            " * (the \"License\"); you may not use this file except in compliance with\n" +
-            " * the License.  You may obtain a copy of the License at\n" +
-            " *\n" +
-            " *     http://www.apache.org/licenses/LICENSE-2.0\n" +
-            " *\n" +
-            " * Unless required by applicable law or agreed to in writing, software\n" +
-            " * distributed under the License is distributed on an \"AS IS\" BASIS,\n" +
-            " * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.\n" +
-            " * See the License for the specific language governing permissions and\n" +
-            " * limitations under the License.\n" +
-            " */\n" +
-            "\n" +
-            "import org.apache.lucene.analysis.CharArrayMap;\n" +
-            "\n" +
-            "final class Map%c {\n" +
-            "\n" +
-            "    private Map%c() {\n" +
-            "    }\n" +
-            "\n" +
-            "    @Override\n" +
-            "    public Object clone() throws CloneNotSupportedException {\n" +
-            "        throw new CloneNotSupportedException();\n" +
-            "    }\n" +
-            "\n" +
-            "    static final CharArrayMap<Integer> map =\n" +
-            "    CharArrayMap.unmodifiableMap(\n" +
-            "    new CharArrayMap<Integer>(%d, PatternTableFactory.ignoreCase)\n" +
-            "    {{";
-
     public static void main(String[] args) throws IOException {
 
+        final Path dir = Paths.get(args.length > 0 ? args[0] : "target/classes", "org/apache/lucene/analysis/tr/util");
+        Files.createDirectories(dir);
+
         String[] lines = {
                 "c (\"bu aXa\") (\"Cki Xi\") (\"na Xog\" . t) (\"ram Xo\" . t) (\"gol aX\" . t) (\"huyu X\") (\"m Xars\" . t) (\"Ik Xip\") (\"ncu X \" . t) (\"zay Xo\" . t) (\"Xincik\" . t) (\"vre aX\" . t) (\"mUS aX\") (\"ie Xol\") (\" eva X\") (\"im teX\") (\"kriz X\" . t) (\"k Xipl\" . t) (\"Ir 1 X\") (\"Xamdal\" . t) (\"mem Xi\") (\"tI Xat\" . t) (\"I Xalt\") (\"elinde Xop\") (\"e Xopu\" . t) (\"zi Xat\" . t) (\"ube aX\" . t) (\"sis Xa\" . t) (\"n selX\" . t) (\"rgIXiy\" . t) (\"n mUXt\" . t) (\"rIS uX\" . t) (\"kireXe\" . t) (\"Xiklid\") (\"lave X\" . t) (\"i minX\" . t) (\"es Xin\") (\"re Xat\" . t) (\"yhin X\") (\"az haX\") (\"mi Xar\" . t) (\"orge X\") (\"kovaX \") (\"ak Xat\" . t) (\"Or aXa\") (\"rpar X\") (\"da teX\") (\"de Xeb\") (\"yarInX\") (\"eXeres\") (\"fon aX\" . t) (\"ri Xem\") (\"tino X\") (\"5 i aX\" . t) (\"1 00 X\") (\"i dolX\" . t) (\"rarInX\") (\"kIS aX\" . t) (\"I penX\") (\"n aXim\") (\"va aXi\" . t) (\"iz Xik\" . t) (\"olma X\" . t) (\"g un X\" . t) (\" reXet\" . t) (\"Xalisk\" . t) (\"u seXi\" . t) (\"uXular\") (\"birinX\") (\"n Xocu\" . t) (\"aXlari\" . t) (\"s uX \") (\"n OXe\") (\"USXus\") (\"boraX\") (\"laXo \" . t) (\"Xookt\" . t) (\"Xamca\" . t) (\"ikXik\") (\"penXo\" . t) (\"elaXo\" . t) (\"Xubak\" . t) (\"ikelX\") (\"Xolly\") (\"I c X\" . t) (\"Xivid\" . t) (\"eXvir\" . t) (\"teviX\") (\"konXi\" . t) (\"tiniX\" . t) (\"boriX\") (\"refaX\" . t) (\"a gaX\" . t) (\"as tX\" . t) (\"clisX\") (\"0 Xul\") (\"riraX\" . t) (\"Con X\" . t) (\" bulX\" . t) (\"Xuyoz\") (\"Xuyo \") (\"r d X\" . t) (\"oXano\" . t) (\"eXon \" . t) (\"Xitra\" . t) (\"he uX\") (\"4 akX\" . t) (\"269 X\" . t) (\"a uXe\" . t) (\" Cu X\" . t) (\"laniX\" . t) (\"iCaXa\") (\"nXars\" . t) (\"  dX \" . t) (\"Xambe\" . t) (\"dad X\") (\"51 Xb\") (\"romaX\") (\"zXak \") (\"kuXar\" . t) (\"Ximbl\") (\"fdarX\") (\"Xerag\" . t) (\"Xoret\") (\"sXiml\" . t) (\"krosX\" . t) (\"Xagay\") (\"5 Xi \" . t) (\"Xikig\" . t) (\"Xabac\") (\" leXe\" . t) (\"Xokk \") (\"zI X \" . t) (\"heriX\") (\"CiviX\") (\" kunX\") (\"raviX\") (\"yo X \" . t) (\" Xies\" . t) (\"zeliX\" . t) (\"t Xa \" . t) (\"u daX\" . t) (\"Xopea\") (\"U ruX\") (\"GdaSX\") (\"Xont \" . t) (\"n h X\" . t) (\"I h X\" . t) (\"Xilea\") (\"juiXi\" . t) (\"IXiyo\" . t) (\"iyteX\" . t) (\"eXemd\") (\"GdI X\" . t) (\"Xinyu\" . t) (\"Xoruw\") (\"yanXe\" . t) (\"Xogit\") (\"Xarip\") (\"rXal \" . t) (\"e Xeg\" . t) (\"kapuX\" . t) (\"s aXk\") (\"  Xi \" . t) (\" Ci X\" . t) (\"kuSXa\") (\"az X \" . t) (\"kanXe\" . t) (\"oXanl\" . t) (\"ily X\") (\"lpenX\" . t) (\"Xinn \" . t) (\"Xarpo\") (\"Xails\" . t) (\"rSi X\") (\"rdziX\") (\"gariX\") (\"roXel\" . t) (\"ay X \" . t) (\"UzgUX\" . t) (\"aXise\") (\" ka X\" . t) (\"liXic\" . t) (\"c Xit\") (\"hraXe\" . t) (\"tmuSX\") (\"menkX\") (\"od Xu\" . t) (\"ylk X\") (\"m y X\" . t) (\"Xiroz\" . t) (\"utXun\") (\"oniXl\") (\"l aXd\" . t) (\"uXins\" . t) (\"borXi\" . t) (\"Xormo\") (\"Xokan\") (\"hotiX\" . t) (\"rXent\") (\" liX \" . t) (\"Xopol\" . t) (\"GaXay\" . t) (\" Xova\") (\"mka X\" . t) (\"rIlIX\" . t) (\"mihaX\" . t) (\"voriX\") (\"faXas\" . t) (\"cur X\") (\"m aSX\") (\"umiXi\" . t) (\"1 3 X\" . t) (\"lfo X\") (\"nXalo\" . t) (\"usiXi\" . t) (\"ta Xk\" . t) (\"UkXil\") (\"t U X\" . t) (\"katiX\" . t) (\"ikaXt\") (\"m Xoo\" . t) (\"gur X\" . t) (\"Xorai\") (\"Xamga\" . t) (\"0 uX \") (\"Xapo \") (\"mamiX\") (\"un OX\") (\"viXka\") (\"Xolen\" . t) (\"bow X\") (\"ebiXe\") (\"visiX\") (\"GretX\") (\"33 uX\") (\"Xizek\") (\"bereX\") (\"ep X \" . t) (\"In X \" . t) (\"lk X \" . t) (\"Xike \" . t) (\"parXe\") (\"sUrXe\") (\"olXel\" . t) (\"Xolat\") (\"zunX \") (\"daXay\" . t) (\"maXhu\" . t) (\"u Xa \" . t) (\"Xano\") (\" iXan\" . t) (\"grgIX\") (\"Xapuc\") (\"ub Xa\" . t) (\" Xite\") (\"Xayet\") (\" Xikk\") (\" nunX\" . t) (\"a Xau\" . t) (\"UmUSX\" . t) (\"Xamye\") (\" Xamy\" . t) (\"U O X\" . t) (\" aaXi\" . t) (\"gUniX\" . t) (\"Xhir \" . t) (\"Xaliz\") (\" os X\") (\"bu X \" . t) (\"SI X \" . t) (\"Xonac\" . t) (\"aht X\" . t) (\" s Xr\" . t) (\" aXkl\" . t) (\"aXarb\") (\"31 Xa\" . t) (\"gb Xi\") (\"OkXis\") (\"urtIX\" . t) (\"edeXa\" . t) (\"ure X\") (\"p Xul\" . t) (\"ni X \" . t) (\"IlkIX\" . t) (\"riciX\" . t) (\"Xolad\") (\"b Xal\") (\"u Xe \" . t) (\"Xulli\") (\"y Xip\") (\"lasaX\" . t) (\"C Xav\") (\" kliX\" . t) (\"emoX \") (\"Xasit\" . t) (\"fle X\" . t) (\"biXek\") (\"Xopel\") (\"2 Xiy\") (\"C Xo \" . t) (\"enseX\") (\"UleXo\" . t) (\" iXre\" . t) (\"Xecel\") (\"filiX\") (\"dre X\") (\"ulenX\") (\"Xides\") (\"I e X\" . t) (\"ulaXi\") (\"IrmiX\") (\"p paX\" . t) (\"i Xod\") (\"Xukad\" . t) (\"piriX\" . t) (\"dy Xa\") (\"nXuh\") (\"manXu\" . t) (\"mra X\") (\"S Xi \" . t) (\"h Xi \" . t) (\"Xifle\") (\"Xigan\" . t) (\"erkeX\" . t) (\"otXul\") (\"p erX\") (\"uXarm\") (\"vcanX\" . t) (\" aXih\" . t) (\"Xapsh\") (\"Xabul\") (\"b aX \") (\"rasiX\") (\"Xetla\") (\" Xays\") (\"nXiko\" . t) (\"deXel\" . t) (\" aXa \" . t) (\"  Xrp\" . t) (\" hp X\") (\"li OX\" . t) (\"rXas \") (\"S Xa \" . t) (\"gio X\") (\"Xobur\") (\"zIk X\" . t) (\"ep Xo\" . t) (\"y ahX\") (\"em X \" . t) (\"guk X\") (\"I Xo \" . t) (\"  SuX\" . t) (\"m Xut\" . t) (\"haXla\" . t) (\"  e X\") (\"Xinis\") (\"Xinta\" . t) (\"nlatX\") (\"Sok X\") (\"k Xe \" . t) (\" kiXh\" . t) (\"pinXi\" . t) (\"fi aX\" . t) (\"skeXi\") (\"liXek\") (\"uro X\") (\"tCa X\" . t) (\"p liX\" . t) (\"nakiX\") (\"ty Xe\") (\" feXe\" . t) (\"biXir\") (\"asalX\") (\"erkaX\" . t) (\"n poX\" . t) (\"5 Xur\") (\"aXare\") (\"saXid\") (\"nXan \") (\"dinXa\" . t) (\"nXag \" . t) (\"seXev\") (\"S Xeb\") (\" okaX\") (\"kit X\" . t) (\"  orX\" . t) (\"ekkeX\") (\"n puX\") (\"erenX\") (\"aCkIX\" . t) (\"o uXa\" . t) (\"pe Xo\") (\"Xalgo\") (\"laaaX\" . t) (\"eniXi\") (\"z Xuc\" . t) (\"f Xul\") (\"kukiX\") (\" ngoX\") (\"koiXi\" . t) (\"Xitak\" . t) (\"Xiste\" . t) (\"maniX\" . t) (\"e boX\") (\"Xino \") (\"hXan \") (\"eXiog\") (\"fa X \" . t) (\"panXo\" . t) (\"saXim\" . t) (\" daXa\" . t) (\"lXugi\" . t) (\"ed Xa\") (\"saXan\" . t) (\"Guk X\" . t) (\"garXi\") (\" apaX\" . t) (\"bataX\") (\"b eyX\" . t) (\"i z X\" . t) (\"i s X\" . t) (\"Xoptu\") (\"Xiban\" . t) (\"Xogam\") (\"anXic\" . t) (\"ikaCX\") (\"S Xoc\" . t) (\"of aX\") (\"Xilav\" . t) (\"nXerl\" . t) (\"e Xib\") (\"Xileg\" . t) (\"Xayiv\") (\"eji X\" . t) (\"Xopli\") (\"llaXi\") (\"u erX\") (\"I Xeb\") (\"iXiye\") (\"45 Xa\" . t) (\"m Xep\") (\"isXi \" . t) (\"smuSX\") (\"f Xil\" . t) (\"Xolga\") (\"aXada\") (\"GmaXi\") (\"mes X\") (\"a baX\") (\"Xinga\" . t) (\"rpenX\" . t) (\"C Xe \" . t) (\"Xilab\" . t) (\"ar X \" . t) (\"Xayam\") (\"jevaX\") (\"omanX\") (\"eberX\") (\"iskoX\" . t) (\"oy Xo\" . t) (\"kaniX\" . t) (\"arXak\") (\"amaXa\") (\"karXe\" . t) (\"C Xoc\" . t) (\"stanX\") (\"ranXe\") (\"orveX\" . t) (\"leriX\") (\"maXis\") (\"Xamag\" . t) (\"aS iX\" . t) (\"a uXa\" . t) (\"anXin\") (\"Xerel\") (\"rt aX\" . t) (\"Xalig\") (\"ediXi\") (\"t ilX\" . t) (\"myonX\") (\"Xetes\" . t) (\"retiX\") (\"Xanli\") (\" Xesa\") (\"bovaX\") (\"pis X\") (\"Xecen\" . t) (\"UreXe\") (\"U miX\") (\"urmaX\") (\"Xceg\" . t) (\"vereX\") (\"rdUnX\") (\"acatX\" . t) (\"ndy X\") (\"lerXe\") (\"layaX\") (\"laXag\") (\"mumXi\" . t) (\" aCaX\") (\"n Xik\" . t) (\"Xesit\" . t) (\"Xerek\" . t) (\"a Xik\" . t) (\"SXeg\") (\"tavX\" . t) (\"amXl\" . t) (\"dstX\") (\"Xolw\") (\"zkUX\" . t) (\"erIX\") (\"Xrec\" . t) (\"Xsit\" . t) (\"yodX\" . t) (\"tXeg\") (\"bseX\") (\"goXn\" . t) (\"Xlah\") (\"Xolb\") (\"hXur\") (\"edoX\") (\"umXe\" . t) (\"geXu\" . t) (\"usuX\") (\"rXee\" . t) (\"etcX\" . t) (\"Xiok\" . t) (\"Xogh\") (\"iXma\") (\"koXr\" . t) (\"hefX\") (\"fXad\") (\"moXl\") (\"gliX\") (\"skUX\" . t) (\"tiyX\" . t) (\"vyaX\" . t) (\"C X \" . t) (\"koXc\" . t) (\"vniX\" . t) (\"Xaeb\" . t) (\"IlXu\" . t) (\"CelX\") (\"SXig\") (\"piXl\" . t) (\" Xoi\") (\"uicX\" . t) (\" UXc\" . t) (\"girX\") (\"Xoct\") (\"keXc\" . t) (\"ruXi\") (\"pUrX\" . t) (\"pIrX\") (\"nkXl\") (\"CiaX\" . t) (\"yaIX\") (\" UlX\" . t) (\"iy X\" . t) (\"eetX\") (\"blIX\") (\"aveX\") (\"rnuX\") (\"Xtif\") (\"feXl\" . t) (\"oXev\") (\"ljuX\" . t) (\"Xorf\") (\"tabX\") (\"geaX\" . t) (\"kUCX\" . t) (\"kUXc\" . t) (\"OnXi\" . t) (\"iXet\") (\"tXas\") (\"mlaX\") (\"wo X\") (\"apiX\" . t) (\"hiXd\" . t) (\"Xagr\" . t) (\"uy X\") (\"Xebl\" . t) (\"rilX\") (\"Xelv\") (\"y Xk\" . t) (\"Xsu \") (\"peXk\") (\"ukuX\" . t) (\" uzX\" . t) (\"x Xo\") (\"yaXm\") (\"IXaa\") (\"OzaX\" . t) (\"Xech\") (\"OrtX\") (\"oXko\") (\"kXah\" . t) (\"uliX\") (\"lilX\") (\"CliX\") (\"Xipt\") (\"Xal1\" . t) (\"oyXa\" . t) (\"CiXc\" . t) (\"rokX\") (\"lasX\" . t) (\"iXoc\" . t) (\"morX\") (\"boXo\") (\"ouaX\") (\"Xamt\" . t) (\"dIrX\") (\"buCX\" . t) (\"nXov\" . t) (\"nXs \" . t) (\"Xirn\") (\"onX \") (\"e Xg\") (\"Xatr\") (\"ondX\" . t) (\"nXez\" . t) (\"odiX\") (\"Xork\") (\"Xoum\" . t) (\"inkX\") (\"utuX\") (\"uXcu\" . t) (\"yuhX\") (\"Xnae\" . t) (\"Xao \") (\"umcX\" . t) (\"Xve \" . t) (\"uXea\") (\"Xayy\" . t) (\"kiXd\" . t) (\"udoX\") (\" gXu\" . t) (\"gneX\" . t) (\"Xesz\") (\" Xcs\" . t) (\"ruXr\" . t) (\"Xozy\") (\"lviX\") (\"Xibr\") (\"Xlur\") (\"ulXi\" . t) (\" nIX\") (\"sezX\" . t) (\" isX\") (\"raXd\" . t) (\"isaX\") (\"srtX\") (\"leXa\" . t) (\"pelX\") (\"tXem\" . t) (\"I Xg\") (\"zilX\") (\"vasX\") (\"4 yX\") (\"uzUX\" . t) (\"gelX\") (\"Xuan\" . t) (\"nviX\") (\"lguX\") (\"Xcag\" . t) (\"ureX\") (\"agaX\") (\"imXa\" . t) (\"muXa\") (\"guXu\") (\"tXce\" . t) (\"Xucg\" . t) (\"nXvi\" . t) (\"veXk\") (\"Xavk\") (\"liXl\" . t) (\"Xadu\" . t) (\"my X\") (\"Xdis\" . t) (\"pmeX\") (\"lseX\") (\"oduX\") (\"uSuX\") (\"iXev\" . t) (\"Xulh\" . t) (\"Xiol\") (\"paSX\" . t) (\"UziX\" . t) (\"Xot \") (\"uXit\") (\"ikiX\") (\"kiXa\" . t) (\" zUX\") (\"omeX\") (\"kkeX\" . t) (\"aXif\") (\"I dX\" . t) (\"fuXk\") (\"cInX\") (\"hunX\") (\"almX\" . t) (\"Xirv\") (\"eXig\") (\"punX\") (\"msiX\") (\"syaX\") (\"aIrX\") (\"Xinh\" . t) (\"oXea\") (\"ierX\") (\"usaX\") (\" gIX\") (\"dluX\") (\" aXc\") (\"fliX\") (\"suXo\" . t) (\"ssoX\") (\"puXu\") (\"fXan\") (\"fInX\") (\"heXe\") (\"nCIX\") (\"Xin1\" . t) (\"a Xb\") (\"mXak\" . t) (\"halX\") (\"Xesc\") (\"gIXa\") (\"umaX\") (\"breX\") (\"Xatf\") (\"Xevt\") (\"iXig\") (\"Xuls\" . t) (\"vaXt\" . t) (\"Xlaf\") (\" yeX\" . t) (\"elaX\") (\"reXo\") (\"rlaX\") (\"danX\") (\"nXur\") (\"ibiX\") (\" UXk\" . t) (\"USXe\") (\"uziX\") (\"nduX\") (\"zXes\") (\"Xaz \") (\" aSX\" . t) (\"Xoco\") (\"proX\") (\"plIX\") (\"Xenn\") (\"lXam\" . t) (\"betX\" . t) (\"Xagn\") (\"Xigd\" . t) (\"Xesm\" . t) (\"IkIX\") (\" bIX\" . t) (\"asaX\") (\"hiiX\" . t) (\"Xabu\" . t) (\"ekeX\") (\"rliX\") (\"rkIX\") (\"Xmil\") (\"UnUX\" . t) (\"SUnX\") (\"ImaX\") (\"Xade\") (\"Xatc\") (\"Xilm\" . t) (\"marX\") (\"rXus\") (\"porX\") (\"Xtik\" . t) (\"kaXt\" . t) (\"enXi\") (\"eteX\") (\"eXeg\") (\"silX\") (\"yrIX\") (\"Xozu\" . t) (\" iXi\" . t) (\"UXn\" . t) (\"yXp\" . t) (\"Xbc\") (\"aXj\" . t) (\"Xgw\") (\"tXp\" . t) (\"IeX\") (\"Xcg\" . t) (\"Xzo\" . t) (\"hXp\") (\"Xsc\") (\"Xo2\") (\"kXp\") (\" X1\") (\"aXf\") (\"weX\") (\"kcX\" . t) (\"dXg\" . t) (\"wrX\") (\"znX\") (\"jnX\") (\"ueX\") (\"Xth\") (\"iXp\") (\"Xzy\") (\"Xej\") (\"tXb\") (\"SCX\") (\"SXc\" . t) (\"Xeu\") (\"uXv\" . t) (\"UbX\") (\"sOX\" . t) (\"chX\") (\"Xix\") (\"voX\") (\"lcX\" . t) (\" SX\") (\" lX\") (\"tCX\") (\"UXv\" . t) (\" hX\") (\" fX\") (\"euX\") (\"jeX\") (\"4aX\") (\"eXg\") (\"llX\") (\"ylX\") (\"rzX\" . t) (\"GuX\") (\"thX\") (\"yXb\" . t) (\"rXh\") (\"jlX\" . t) (\"iXm\" . t) (\"IXt\" . t) (\"Xd \") (\"iuX\") (\"Xlo\") (\"Xah\") (\"yIX\") (\"Xks\") (\"Xok\" . t) (\"qX\") (\"Xx\") (\"X2\" . t) (\"X5\" . t) (\"X7\") (\"abilme gUXune\" . t) (\"imin sonuXud\" . t) (\"0 stankoviX\") (\"i smeonoviX\") (\"n mijatoviX\" . t) (\"I silah gUX\" . t) (\"layan saraX\" . t) (\"k halilagiX\" . t) (\"zlar polisX\") (\"i halilagiX\" . t) (\" elindeki X\" . t) (\"nlarInIn Xo\" . t) (\"n de aXikt\") (\"a ivanoviX\") (\"Iyla baliX\" . t) (\"ar ve Xam \" . t) (\"i raftingX\" . t) (\"k markoviX\") (\"rIlmayan X\" . t) (\"asInda Xop\") (\"i bir Xam \" . t) (\"nin Xanlar\" . t) (\"i sonuXudu\" . t) (\"r dolara X\" . t) (\"a aXisini\") (\"I Xanlar \" . t) (\"kan a aXi\") (\"u da Xaba\") (\"a aXiyord\") (\"i de Xaba\") (\"e vlaoviX\" . t) (\"i adI geX\" . t) (\"ne ve Xog\") (\"an aXilar\") (\"na geXeli\" . t) (\"e keynesX\") (\"ka bir aX\" . t) (\"lara aXiy\") (\"zeki Xab\") (\"e armutX\") (\"a aXisiy\") (\"unda Xos\" . t) (\"r aXisid\") (\" aXisin \") (\"men Xop \") (\"okanoviX\") (\"n genXel\" . t) (\"Cek kauX\") (\"son haXi\" . t) (\"bi dostX\") (\"an mahXu\") (\"  bu Xos\" . t) (\"ulu Xam \" . t) (\"im aXim \") (\"bin Xam \" . t) (\"tU saraX\" . t) (\"I kuruXa\" . t) (\"nce Xamd\" . t) (\"vaS aXis\") (\"e pen X\") (\"n Xiler \" . t) (\"ek aXili\" . t) (\"emiS Xin\") (\"isini Xo\" . t) (\"eki Xim \" . t) (\" de Xam \" . t) (\"zasIna X\" . t) (\" Xandik\" . t) (\"joroviX\") (\"n kukoX\" . t) (\"Xandarl\" . t) (\"nobil X\" . t) (\"nuna iX\") (\"in Xad \" . t) (\"  barXa\" . t) (\"a avdiX\") (\"kada X \" . t) (\"ecep Xi\") (\"ir haX \" . t) (\"aXiklis\") (\"panoviX\") (\" tarXin\" . t) (\"oXanind\" . t) (\"t Xilar\" . t) (\"er Xayi\" . t) (\"lI saX \") (\" ta Xam\" . t) (\"lit Xam\" . t) (\"ri Xaml\" . t) (\"batIXim\" . t) (\"lsa Xam\" . t) (\"an nahX\") (\"ok aXiy\") (\" paXin \" . t) (\" Xinlik\") (\"ri Xat \" . t) (\"m saraX\" . t) (\" Xurumd\") (\"a arXa \" . t) (\"lan akX\" . t) (\"un akXa\" . t) (\"ol Xin \") (\"usam aX\" . t) (\"ma Xaml\" . t) (\"da faXa\" . t) (\"aS aXi \") (\"trafI X\" . t) (\"bu Xin \") (\"ze aXiy\") (\" un aX \") (\"t Xarsi\" . t) (\"i o gUX\" . t) (\"niGde X\" . t) (\"tekli X\" . t) (\"hce maX\") (\"t urumX\" . t) (\"dada Xa\" . t) (\"in aXiy\") (\"Um aXis\") (\"lis Xe \" . t) (\"ve aXim\") (\"ce Xop \") (\"  Xamla\" . t) (\"le Xosu\" . t) (\"et genX\" . t) (\"S aXil \") (\"ni aXis\" . t) (\" Sen X \" . t) (\"rlIk Xa\" . t) (\"Xarcal\") (\"kut Xu\" . t) (\"d maX \") (\"urem X\" . t) (\"8 Xarm\") (\"afa aX\") (\"kentiX\" . t) (\"Xollez\") (\"I Xor \") (\"si Xop\") (\"ner X \" . t) (\"aloviX\") (\"z aXiz\" . t) (\"Xatanz\") (\"cop Xo\") (\"haraXo\") (\"Xemred\" . t) (\" maXak\" . t) (\"ru Xam\" . t) (\"Xallin\") (\"In Xi \" . t) (\"Xilesu\") (\"Xagiva\") (\"Xarine\") (\"eXeme \") (\"zon X \" . t) (\"yin X \" . t) (\"l Xirc\" . t) (\"aolo X\") (\"Xogani\") (\"uzoviX\") (\"uroviX\") (\"Xivit \" . t) (\"fiye X\" . t) (\"borXul\" . t) (\"n Ximm\") (\"zangoX\" . t) (\"ste aX\" . t) (\"ri uXl\" . t) (\"Xentik\" . t) (\"Xopluy\") (\"arakaX\" . t) (\"Xapule\") (\"Xucukl\" . t) (\" Xerme\") (\"eXemin\") (\" geXi \" . t) (\"Xorvan\" . t) (\"Xelebr\") (\" Xelli\" . t) (\"atoriX\" . t) (\"rk Xu \" . t) (\" Xello\" . t) (\"Xevri \") (\" meXim\" . t) (\"Xiple \") (\"rm Xan\" . t) (\"yaratX\") (\"aya X \" . t) (\"iteliX\" . t) (\"li teX\") (\"g Xole\") (\"enXayd\" . t) (\"ol Xul\") (\"on Xim\" . t) (\"gin X \" . t) (\"vaXev \") (\"Xevriy\") (\"a aXim\") (\"Xisimi\" . t) (\"Xelil \") (\"as Xil\") (\"t Xinc\" . t) (\" aXinm\") (\"eramiX\") (\" Can X\" . t) (\"  Xop \") (\"m aXiy\") (\"Xorduk\" . t) (\" Xinim\") (\"l Xars\" . t) (\"k Xars\" . t) (\"i momX\" . t) (\"un Xat\" . t) (\"unXell\" . t) (\"p Xars\" . t) (\"Xalis \" . t) (\" iC aX\" . t) (\"hayalX\") (\"Xanakk\" . t) (\"Xolas \") (\"da taX\") (\"OGrenX\") (\"aXiss\") (\"Xorel\") (\"poreX\") (\"Xars \") (\"6 akX\" . t) (\"5 akX\" . t) (\"s Xip\") (\"Xopta\") (\"SilXe\") (\"uto X\") (\"Xapou\") (\"lIXag\") (\" OlUX\" . t) (\"oXanl\" . t) (\"Xalib\") (\"C Xop\") (\"iXolu\") (\" eXci\" . t) (\"iadiX\") (\"eXhil\" . t) (\"vehiX\") (\"giniX\" . t) (\"Xidam\" . t) (\" iXha\" . t) (\"uk X \" . t) (\"SarkX\") (\"UnXer\" . t) (\"Xayil\") (\"kXel \") (\"nn Xi\" . t) (\"aXipa\") (\"mrsIX\" . t) (\"s Xi \" . t) (\"Xuzum\" . t) (\"Xallu\") (\"saXu \" . t) (\"mleX \" . t) (\"Xesim\") (\"ehiXe\") (\"za X \" . t) (\"izaX \" . t) (\"k Xo \" . t) (\" Xibu\") (\"uXal \") (\" baXe\" . t) (\"Xarei\") (\"Xatic\") (\"beliX\" . t) (\"v Xam\" . t) (\"GraXi\" . t) (\"Xipol\") (\"dahiX\") (\" Xabo\") (\" Xyp \" . t) (\"Xadas\" . t) (\"dIXal\" . t) (\"hXenl\" . t) (\"odziX\") (\" Xaaa\" . t) (\" peXi\" . t) (\"roliX\") (\"g Xii\" . t) (\"pamiX\") (\"n gaX\" . t) (\"aselX\" . t) (\"lingX\" . t) (\"o Xi \" . t) (\"Xorey\") (\"perXe\" . t) (\"i iXk\" . t) (\"Xitat\") (\"Xoraz\") (\"Xelia\") (\"kuXuk\") (\"adXek\" . t) (\"CalIX\" . t) (\"k Xul\" . t) (\"banXe\" . t) (\"OlgeX\") (\"liXeg\") (\"erhaX\" . t) (\"foXal\" . t) (\"dalXa\" . t) (\"kmiSX\") (\" Xicc\") (\" Xic \") (\"Ximbo\") (\"i Xu \" . t) (\"Xold \") (\"teXko\" . t) (\"ymISX\") (\"daliX\") (\"Xall \") (\"nXika\" . t) (\"k kuX\") (\"i daX\" . t) (\"juriX\") (\"rie X\") (\" aXme\") (\"Xeter\") (\"U Xul\") (\"hIrXi\" . t) (\"eXme \" . t) (\"ilXi \") (\"IlXi \") (\"Xeber\") (\"anXos\" . t) (\"oiniX\" . t) (\"Xelal\") (\"UXunc\" . t) (\"nsu X\" . t) (\"raliX\" . t) (\"mayaX\") (\"Xitie\") (\"Xipp\") (\"a Xg\") (\"suXh\") (\"OXel\") (\"ekX \" . t) (\"etuX\") (\" bXe\") (\"Xcok\" . t) (\"oseX\") (\"mXat\" . t) (\"abXi\" . t) (\"tUlX\") (\"seXn\" . t) (\"olIX\") (\"iCX \") (\"iXc \" . t) (\"Xegs\") (\"delX\") (\"Xec \") (\"nXai\" . t) (\"eguX\") (\"Xizv\") (\"filX\") (\"Xlag\") (\"aiXi\" . t) (\"Xave\") (\"rreX\") (\"auXk\") (\"oyiX\" . t) (\"lkIX\") (\"Xalh\") (\" imX\" . t) (\"paXu\" . t) (\"akUX\" . t) (\"ameX\") (\" ihX\") (\"hilX\") (\"  OX\") (\" oXi\" . t) (\"gasX\") (\"cXis\" . t) (\"oaXi\" . t) (\"Xatu\") (\"praX\") (\"aCXa\") (\"Xipr\") (\"braX\") (\"liXk\") (\"naXt\" . t) (\"zalX\") (\"cilX\") (\"teXl\" . t) (\"Xlea\") (\"lriX\") (\" vuX\") (\"yriX\") (\"ImIX\") (\"Xab \") (\"juiX\") (\"Xii \") (\"farX\") (\"dviX\" . t) (\"heXk\") (\" aXu\") (\"CXeg\") (\"Xceg\" . t) (\"Xso \") (\"Xopo\") (\" raX\") (\" InX\") (\"anIX\") (\"Xaru\") (\"llIX\") (\" keX\" . t) (\"truX\") (\"tirX\") (\"derX\") (\"denX\") (\"aXta\" . t) (\"nmaX\") (\"Xats\") (\" muX\") (\"Xagl\" . t) (\"Xobo\") (\"piXi\" . t) (\"UrUX\") (\"nriX\") (\" CiX\" . t) (\"chiX\") (\"Xisl\" . t) (\" CeX\" . t) (\"riXk\") (\"sveX\" . t) (\"kinX\") (\"uraX\") (\"yunX\") (\"bahX\" . t) (\"yiXe\") (\"leXe\") (\"uXp\") (\"0X \") (\"Xgt\") (\"Xgp\") (\"Xsh\") (\"pXh\") (\"Xoj\") (\"Xbk\") (\"Xaw\") (\"ncX\" . t) (\"cnX\") (\"eXu\") (\"eaX\") (\"xoX\") (\" kX\") (\"hOX\") (\"Xei\") (\"Xiw\") (\"Xb \") (\"Xae\") (\"Xts\") (\"Xk \") (\"Xho\") (\"Xw\") (\"a halilagiX\" . t) (\"en bregoviX\") (\"6 petroviX\") (\"  bregoviX\") (\"e aXiyorum\") (\"menin aXis\") (\"virdiGi Xa\" . t) (\"edeki Xam\" . t) (\"i aXisini\") (\" Xurumu \") (\"har korX\" . t) (\"lise Xan\" . t) (\"nra Xam \" . t) (\"ha Xook \" . t) (\"te tunXa\" . t) (\"i aXiniz\" . t) (\"1 ladiX\") (\"tanoviX\") (\"jatoviX\") (\"ir Xim \" . t) (\" Xildim\") (\"aXisiyd\") (\"k aXimi\") (\" sUrXu \" . t) (\"ni aXar\" . t) (\"Xiklet \") (\"  aXisi\") (\"  Xad \" . t) (\"UC Xim\" . t) (\"akapaX\" . t) (\" daciX\" . t) (\"Xakimi\") (\"gazetX\") (\"n Xilo\") (\"Xaball\") (\"I Xad \" . t) (\"raXk\") (\"aXken \" . t) (\"za Xam\" . t) (\" sam X\") (\"a in X\") (\"Ik Xa \" . t) (\"ilitiX\" . t) (\"U aXar\" . t) (\"r aXim\") (\"tatUrX\" . t) (\" basiX\") (\" Xilik\") (\" kanXi\" . t) (\"Xitico\") (\"i Xipi\") (\"Xoplu \") (\" Xinde\" . t) (\"k aXar\" . t) (\"k Xile\" . t) (\" Xorle\") (\"olaXan\" . t) (\"o Xe \" . t) (\"yra X\" . t) (\" laXm\") (\"Xavas\" . t) (\"obuXi\" . t) (\"demaX\" . t) (\"us X \" . t) (\"sliXe\") (\"lXime\" . t) (\"Xubai\" . t) (\"ruXam\" . t) (\" anXu\" . t) (\"nCXi \") (\"aXely\" . t) (\"Xusok\" . t) (\"Xorbu\") (\"hoviX\") (\"Xigna\") (\"Xenem\" . t) (\"ekliX\") (\"balIX\") (\"gamiX\") (\" Xis \" . t) (\"Xorbe\") (\"Xeney\" . t) (\"Xibik\" . t) (\"taXam\") (\" Ximc\") (\"Xungu\" . t) (\"pereX\") (\"iiriX\" . t) (\"iaXik\" . t) (\"aoviX\") (\"im X \" . t) (\"t Xe \" . t) (\"Xoper\") (\"rXakl\") (\"Xakas\") (\"ollaX\") (\"garXo\" . t) (\"tUk X\" . t) (\" Xadl\" . t) (\"eXem \") (\"iCinX\") (\"Xurac\" . t) (\"e soX\") (\"Xeng \" . t) (\"mariX\") (\"ndiXt\" . t) (\"06 aX\") (\"poGaX\" . t) (\"d Xil\" . t) (\"o Xol\") (\"Xarib\") (\"utreX\") (\" OzXe\" . t) (\"the X\") (\"Xara \") (\" Xert\") (\" Xibi\") (\"iXre \" . t) (\"Xatal\" . t) (\"Xeleb\" . t) (\" sanX\") (\"ael X\") (\"CIkaX\") (\"iXin \" . t) (\"gorX\" . t) (\"paiX\") (\"Xhc \" . t) (\"i Xb\") (\"njiX\" . t) (\"geXr\" . t) (\"kuXc\" . t) (\"Xicl\") (\"hXak\") (\" uXo\" . t) (\"SliX\") (\"oXel\") (\"Xkow\") (\"GaXd\" . t) (\"Xazo\" . t) (\"Xotu\" . t) (\"nXka\" . t) (\"onUX\" . t) (\"komX\" . t) (\"oboX\") (\" yX \" . t) (\"mUlX\") (\"UnXa\" . t) (\"Xorg\") (\"turX\") (\"pheX\") (\"naXy\" . t) (\"adaX\") (\"Xuli\") (\"tXeb\") (\"Ximo\") (\"iXla\") (\"reXk\") (\"relX\") (\"zorX\") (\"Xif \") (\"corX\") (\"  Xb\") (\"Xolm\") (\"Xorv\") (\"meXk\") (\"tXig\" . t) (\"Xaog\") (\"eduX\") (\"n Xb\") (\"Xinar\" . t) (\"liXi\") (\"nlIX\") (\"UXet\") (\" Xeg\") (\"Xoda\" . t) (\"ny X\") (\"avaX\") (\"lIXk\" . t) (\" baX\") (\"uXuz\") (\"unuX\") (\"luXu\") (\"IlaX\") (\"yaXa\") (\"sXv\" . t) (\"plX\") (\"Xoq\") (\"Xgr\") (\"OhX\") (\"Xaj\") (\"CuX\") (\"coX\") (\"Xyu\" . t) (\"In da Xab\" . t) (\"e aXisini\") (\"urhan OX\" . t) (\" Xisini \" . t) (\"men Xe \" . t) (\" Xatani\") (\" Xinlig\") (\"araXali\" . t) (\"na Xop \") (\"r Xarsi\" . t) (\"aXiktik\") (\"Sin Xab\") (\"na Xivi\" . t) (\" aXimi \") (\"laXayi\" . t) (\"omoviX\") (\" ganiX\" . t) (\"Xarni \" . t) (\"uloviX\") (\"venXer\" . t) (\" abaXa\" . t) (\"k mesX\") (\"Xankat\") (\"Xapra \") (\"p Xile\" . t) (\"genXog\" . t) (\" Xelie\") (\"s Xile\" . t) (\" Xemis\" . t) (\"ureviX\") (\"miraX \" . t) (\"rteXin\" . t) (\" Xult\") (\"zeviX\") (\"tlaXi\") (\"Xarst\") (\"ohaX \" . t) (\" aXag\" . t) (\"Xalme\") (\"Xates\" . t) (\" uXul\" . t) (\"ymiSX\") (\"suXug\") (\"geraX\") (\"opaXi\") (\"Xiyak\") (\"alXis\") (\"e Xa \" . t) (\"Xore \") (\"Xobai\") (\"suriX\" . t) (\"haXam\") (\"k Xi \" . t) (\"IlXay\" . t) (\" kuXu\" . t) (\"4 aX \") (\"Xenen\" . t) (\"Xciog\" . t) (\"Xopu \") (\" piX \" . t) (\"aXill\") (\"Xollo\") (\"rmuSX\") (\"rpaXi\") (\"Xuruf\") (\"aXars\" . t) (\"n Xeb\") (\"Xizme\" . t) (\"abanX\") (\"yapaX\") (\"dereX\") (\"IaX \") (\"iseX\") (\"Xirr\") (\"CIrX\" . t) (\"Xtus\") (\"Xopa\") (\"e Xb\") (\" Xoy\") (\"egiX\") (\"aXlu\") (\"rUlX\") (\"afuX\") (\"Xova\" . t) (\"Xopy\") (\" auX\") (\"Xolt\") (\" Xaa\") (\"Xoch\") (\"kXad\" . t) (\" y X\") (\"Xarv\") (\"mXav\" . t) (\"fusX\" . t) (\"Xecc\") (\"uXay\" . t) (\"rCaX\") (\"Xach\") (\"uniX\") (\"Xace\") (\"Xabl\") (\"ksiX\") (\" guX\") (\"eXka\") (\"zeXi\") (\"melX\") (\"iXio\") (\"traX\") (\"zXak\" . t) (\"rviX\") (\"Xopp\") (\"dilX\") (\"carX\") (\"ralX\") (\"iXid\") (\"risX\") (\"Xalo\") (\"utuX\") (\"Xaye\" . t) (\"osiX\") (\"neXe\") (\"resX\") (\"niXk\") (\"Xage\") (\"Xlau\") (\"ruXu\") (\"dtX\") (\"0Xs\") (\"cuX\") (\"Xee\") (\"ioX\") (\"Xiu\") (\"oeX\") (\"Xkb\") (\"hX \") (\"Xgo\" . t) (\"cIX\") (\"hoX\") (\"pIX\") (\"Xh \") (\" nX\") (\"e aXisiy\") (\"ptIGI aX\" . t) (\"Xarlest\" . t) (\"u 5 geX\" . t) (\" Xarlar\" . t) (\"eXekles\" . t) (\"tar taX\") (\"rkaXin \") (\"et aXar\" . t) (\"et Xile\" . t) (\"erda X\" . t) (\" cIk X\") (\"eroviX\") (\"Xelep \") (\"Xhisar\" . t) (\" reXin\" . t) (\" aXlan\") (\"aXimiy\") (\"eXeniz\") (\"gUlXe \") (\"  aXim\") (\"nda X \" . t) (\" aXiyd\") (\" Xole \" . t) (\"aXisiz\") (\"i Xars\" . t) (\"Xarnac\" . t) (\"Xoldi\") (\"rIXak\") (\"Xopei\") (\"Xamol\" . t) (\"araXc\" . t) (\"kvenX\") (\"indaX\") (\"Xopen\") (\"Xarpe\") (\"Xalai\") (\"Xarso\") (\" mXp \" . t) (\"ikeXi\") (\"Xasla\" . t) (\"aXide\") (\"hiXan\" . t) (\"palaX\") (\"Xomel\" . t) (\" Xeri\") (\" eliX\" . t) (\"zIl X\" . t) (\"IlIXh\" . t) (\"balXa\") (\"Xibal\") (\" tUrX\" . t) (\"harXi\") (\"Xaris\") (\" olaX\") (\"Xobh\") (\"iXun\" . t) (\" iXd\" . t) (\"guXi\" . t) (\"Xisu\") (\"InXo\" . t) (\"phiX\") (\"naXl\" . t) (\"Xalp\") (\"Xcam\" . t) (\"Xevv\") (\"IXer\" . t) (\"Xav \") (\" Xug\" . t) (\"gsiX\") (\"yIrX\") (\"Xizz\") (\"rdiX\") (\"Xerp\") (\"mliX\") (\"obiX\") (\"miXi\") (\"Xat \") (\"lXy\") (\"nXd\" . t) (\"Xkn\") (\"ouX\") (\"iCX\" . t) (\"tIX\") (\"Xhe\") (\"Xez\") (\"k aXisini\") (\"aXikmist\") (\"cili biX\") (\"lI haX \" . t) (\"r aXar \" . t) (\"enoviX\") (\"oger X\") (\" anaX \" . t) (\"haXin \" . t) (\" erXeg\") (\"slamiX\") (\"Xarli \") (\"  Xars\" . t) (\"eniXag\" . t) (\"a Xars\" . t) (\"Xerny\") (\"Xalte\") (\"lerX \") (\"l Xim\" . t) (\" Ximi\") (\"ukXev\") (\"kolXa\" . t) (\"doviX\") (\"illaX\") (\" aXas\" . t) (\"Ximis\") (\"CinXi\" . t) (\" aXiv\" . t) (\"Xubur\") (\"rnaXa\" . t) (\" Xaci\") (\"Xilde\") (\"Xilas\") (\"Xagiz\") (\" CerX\" . t) (\"ukoX\") (\"Xac \") (\"eiXe\") (\"Xoge\") (\"Xirc\") (\"kleX\" . t) (\"Xapc\") (\"dXi \" . t) (\"asXi\" . t) (\"Xorc\") (\"Xtiv\") (\"bilX\") (\"Xess\") (\"Xaat\") (\"Xuko\" . t) (\"chIX\") (\" OnX\") (\"UsX\" . t) (\"Xyp\") (\"vIX\") (\"CoX\") (\"zIX\") (\"1X\") (\" Xeltik\" . t) (\"zIl haX\" . t) (\"pantiX\" . t) (\"Xapaci\") (\"arIXam\" . t) (\" Xeles\") (\" Xanag\" . t) (\" Xire\") (\"balXe\") (\"aliXo\" . t) (\" Xun \" . t) (\" arX \") (\"Xeka \") (\" iXac\" . t) (\"Xayim\" . t) (\" Xery\") (\"jeviX\") (\" Xise\" . t) (\"naXiz\" . t) (\"oniXe\" . t) (\"Xatta\") (\"dansX\" . t) (\"Xivr\" . t) (\"Xeca\") (\"Xapp\") (\" Xod\") (\" iXn\" . t) (\"skeX\" . t) (\"lXat\") (\"Xori\") (\"Xabe\") (\"kXam\" . t) (\"itaX\") (\"uCiX\" . t) (\"Xelt\") (\"psaX\" . t) (\"Xurp\" . t) (\"terX\") (\"Xau\") (\"Xof\") (\" Xf\") (\"eeX\") (\"Xph\") (\"alil Xi\") (\" penXe \" . t) (\"adi Xam\" . t) (\" Xortu\" . t) (\"saraXh\" . t) (\"isi X \" . t) (\"haXan \" . t) (\" kIlXi\" . t) (\" Xelin\") (\" Xular\") (\"eXeyim\" . t) (\"nUlaX\" . t) (\" Xed \" . t) (\"Xomez\" . t) (\"f Xim\" . t) (\"buXug\" . t) (\"Xerez\" . t) (\"ykelX\") (\"Xaka \") (\"Xiviy\" . t) (\" Xabi\") (\"aXiki\") (\"Xikan\" . t) (\"pXan\") (\"UXur\") (\"iiXi\" . t) (\" Xhd\" . t) (\" UXd\" . t) (\"atXu\") (\"aXte\") (\"plaX\") (\"Xcik\" . t) (\"Xkov\") (\"rpiX\" . t) (\"taXm\") (\"Xubi\") (\"luXi\") (\"yiX \" . t) (\"ogiX\") (\"Xift\" . t) (\" viX\") (\" pX\") (\" rX\") (\"wiX\") (\"oiX\") (\"aeX\") (\"Xj\") (\" aXilarindan\" . t) (\"n aXisiy\") (\"dinXel \" . t) (\" deneX \" . t) (\"t Xine\" . t) (\" Xenel\" . t) (\" Xaril\") (\" Xado\" . t) (\"parX \") (\"mXeli\" . t) (\"ick X\") (\"Xalde\") (\"joviX\") (\" aXir\") (\"gUXer\" . t) (\"Xengi\") (\"Xepn\" . t) (\"Xevz\") (\"imiX\") (\"IrXe\") (\"Xelp\") (\"Xilk\") (\"Xock\") (\"SXan\") (\"Xiz \") (\"kiXe\") (\"nkaX\") (\"galX\") (\" iXe\" . t) (\"hXr\") (\"brX\") (\"Xkm\") (\"huX\") (\"loX\") (\"jiX\") (\"Xalgar\") (\"Xalabr\") (\" Xigim\") (\"Xaptag\") (\" Xinin\") (\" Xecil\") (\"us Xar\" . t) (\"cem Xo\" . t) (\"Xamli \") (\"holiX\") (\"aXay \" . t) (\"Xizir\") (\" Xary\") (\"ceviX\") (\" troX\" . t) (\"Xomle\" . t) (\"OnetX\") (\"Xasod\" . t) (\"nXev \" . t) (\"larXa\") (\"Xaly\") (\"SXen\") (\"uXer\") (\"Xlai\") (\"varX\") (\"uXe \") (\" unX\") (\"veXi\") (\"Xevr\" . t) (\"akaX\") (\"ebX\") (\"Xkv\") (\" tX\") (\"yuX\") (\" de Xabas\") (\" aXind\") (\"iXisi \") (\"u aXar\" . t) (\"jukiX\") (\"civiX\") (\"erXam\" . t) (\"Xupi \" . t) (\"CariX\" . t) (\"deriX\") (\" arXa\") (\" orXu\" . t) (\"edriX\") (\"elXa\") (\"imaX\") (\"mpaX\") (\"vilX\") (\"buXl\" . t) (\"yXan\") (\"lnX\") (\"ieX\") (\"iaX\") (\"Xaf\") (\"Xoe\") (\" uXla \") (\"GanXay\" . t) (\"lIXasi\") (\"Xarmin\") (\"a aXar\" . t) (\"e Xars\" . t) (\"bortaX\" . t) (\"Xollec\") (\"sIXan\" . t) (\"laXik\") (\"ulusX\" . t) (\" Xak \") (\"selXi\") (\"Xenko\" . t) (\"Xapri\") (\" peXe\" . t) (\"biliX\") (\"falX\") (\"diX \" . t) (\"siXi\") (\"speX\") (\" Xt\") (\"Xox\") (\"Xq\") (\"Xandar \" . t) (\"penXel\" . t) (\"kemenX\" . t) (\"I Xars\" . t) (\"eXemiz\") (\"Xinto\") (\" uXa \") (\"Xariy\") (\" Xibo\") (\" Xiga\") (\"t Xi \" . t) (\" Xio\") (\" Xea\") (\"kaXc\" . t) (\"Xlav\") (\"Xepe\" . t) (\"Xkt\") (\"kX \") (\" IX\") (\"Xyi\" . t) (\" oX\") (\"xX\") (\"ike Xan\" . t) (\"Xingir\" . t) (\"Xiliye\") (\"inalX\") (\"Xapon\") (\"leiXi\" . t) (\" Xaym\") (\"s Xop\") (\"Xivis\" . t) (\"Ximbi\") (\" CaXa\" . t) (\" sIrX\" . t) (\"inciX\" . t) (\"IrmaX\") (\"Xobr\") (\"pOrX\" . t) (\"nXko\" . t) (\" InX\") (\"Xelb\") (\"omiX\") (\" Xorun\") (\" aXina\") (\"n Xars\" . t) (\" Xory\") (\"Xocu \") (\"anrIX\" . t) (\"metiX\" . t) (\"d inX\") (\" alXi\" . t) (\" Xink\" . t) (\"IlhaX\" . t) (\"aXev\" . t) (\"roXi\" . t) (\"lXio\") (\"abiX\") (\"Xamk\" . t) (\"CXi \" . t) (\"eXiv\" . t) (\"Xarn\") (\"I aXar\" . t) (\" Xene \" . t) (\"Xarey \") (\"felXi\") (\"UteX \" . t) (\"ssiX\") (\"Xort\") (\"Xabb\") (\"niXo\") (\" anX\") (\"reXci\" . t) (\"maXik\") (\" uXuc\" . t) (\"Xince\" . t) (\"Xips\") (\"Xors\") (\"Xur \" . t) (\"tliX\") (\"mUX\") (\"Xohacopu\" . t) (\" Xarda\" . t) (\" aXini\") (\"SaXik \") (\"Xayag\") (\" Xara\") (\" koXu\" . t) (\"Xaret\") (\"agiX\") (\" Xeo\") (\"yaXo\" . t) (\"Xalv\") (\"Xice\" . t) (\"SiX\") (\"noX\") (\" da Xabas\") (\" antiX \" . t) (\" Xuruml\") (\"Xitib\") (\"blanX\") (\"Xerva\") (\"bliX\") (\"CiXi\") (\"aaX\") (\"Xagalo\") (\" paXi\") (\"viXe \") (\" aliX\") (\"peX \") (\"Ximr\") (\"Xeho\" . t) (\"blaX\") (\"SmaX\") (\"oXi \" . t) (\"UtX\" . t) (\"Xakarta \") (\" Xiliv\") (\" Xarli\" . t) (\"eXinde\") (\"UrgeX\") (\" Xot\") (\"Xitr\") (\"maXb\") (\"Xera\") (\"alaXat\" . t) (\" reXel\" . t) (\"Xabr\") (\"Xid \") (\"Xoro\") (\" Xiler\") (\" parXa\" . t) (\"kalXa\" . t) (\"iXan\") (\"upaX\") (\"nXb\" . t) (\"wX\") (\"Xv\") (\" Xici\") (\"Xooo\" . t) (\"Xesm\" . t) (\"Xivile\" . t) (\" saXi \" . t) (\"siXe\") (\"paXk\") (\"fIrX\" . t) (\"jX\") (\" aXilarda\" . t) (\"ehiriX\" . t) (\"kIrXa\") (\"Xarg\") (\"aXle\") (\"enXk\" . t) (\"ruXa\") (\"isXi\" . t) (\"zOlX\" . t) (\" Xp\") (\"nXc\" . t) (\"Xkl\") (\"dX\") (\"karaXi \" . t) (\" Xildin\") (\" serXe\" . t) (\"Xolleg\") (\"Xomak\" . t) (\" aXal\" . t) (\"rusX\" . t) (\"aXib\") (\"emiX\") (\"lXo\") (\"Xyd\" . t) (\" Xy\") (\" burXa\" . t) (\" maXo\" . t) (\"Xuha\" . t) (\"ciX\") (\"roX\") (\"Xengel\" . t) (\"musiX \") (\"Xanko\") (\" Xini\" . t) (\"suXuk\") (\"Xoli\") (\" aXiyl\") (\"gOXek\") (\"Xals \") (\"Xubay\" . t) (\"rayiX\" . t) (\"manXo\" . t) (\"irkaX\" . t) (\"tehX\") (\"feX\") (\"foXa \" . t) (\"raXog\") (\"sXis\" . t) (\"buX \" . t) (\"kXem\" . t) (\"Xebi \" . t) (\"Xorr\") (\"Ximn\") (\"triX\") (\" Xurum \") (\" Xildi \") (\"salXa\" . t) (\" kaXi\" . t) (\"eliX\") (\"uXup\" . t) (\"fiX\") (\"koXan \" . t) (\"Xolum\") (\"Xonga\" . t) (\"Xavc\") (\" Xed\") (\"skaXi\") (\" ilX\" . t) (\"kiXi\") (\"Xef\") (\"ceX\") (\"IsaXi\") (\" Xeyi\" . t) (\"eXhiz\" . t) (\"sXe \" . t) (\"fIX\" . t) (\"yol aX\" . t) (\"Xelim\" . t) (\"Xenes\" . t) (\"Xipla\" . t) (\"Xath\") (\"nXoi\" . t) (\"koXas \" . t) (\" Xinle\") (\"Xapit\") (\"UleX \" . t) (\"IXd\" . t) (\"faX\") (\"zXeli\" . t) (\" luX\") (\"Xikli \") (\"iXeri\" . t) (\"Xok\" . t) (\"Xolli\") (\"Xels\") (\" Xe \") (\"eseX\") (\"naX\") (\" aXidi\") (\"Xorn\") (\"Xorp\") (\" Xayir \") (\"Xalla\") (\"farsX\" . t) (\"iniX\") (\"Xehr\" . t) (\" eX\") (\"Xilarak\" . t) (\"tekelX\") (\"eXilik\") (\"Xarme\") (\"konXe\" . t) (\" Xis\") (\"nXm\" . t) (\"Xove\") (\" kamX\" . t) (\"Xirit\") (\"Xks\") (\" saXa\" . t) (\"Xilv\") (\"Xava\") (\"rUXh\" . t) (\"Xai\") (\" yolaX\" . t) (\"Xole\") (\"Xt \") (\"caX\") (\"aXiya\") (\"bruX\") (\" kIX\" . t) (\" Xs\") (\"Xurcic\" . t) (\"CurX\" . t) (\"Xky \") (\"Xiliz\") (\"Xanku\") (\"Xamli\" . t) (\"Xalt\" . t) (\" Xivi \" . t) (\"Xie\") (\"penXes\" . t) (\" ayX\" . t) (\"aXiyi\") (\"Xoca\") (\"koXak \" . t) (\"lXam\" . t) (\" Xul\" . t) (\"Xape\") (\"Xetv\") (\"aXli\" . t) (\" Xelil\") (\"gaXi\") (\"IoX\") (\"S aXi\" . t) (\"aXisi \") (\"anXer\" . t) (\"rXil \" . t) (\" seXik\" . t) (\"piX\") (\"aXit\") (\"gX\") (\" paXa\" . t) (\"verX\") (\"rXin \" . t) (\" Xila\") (\"Xinge\" . t) (\"Xubu\" . t) (\"Xity\") (\"Xuyo\" . t) (\"IXe\") (\"koXar\" . t) (\"sXila\" . t) (\"marX\") (\" liX\") (\"eveX\") (\" Xarsi \") (\"Xeviz\") (\"daXi\") (\"Xolo\") (\"Xopla\") (\"Xtio\") (\"Xs \") (\"Xalif\") (\"akarX\") (\"deX\") (\"aXili \") (\"Xola \") (\"telX\") (\"ortaXag\" . t) (\"lIXak\") (\"Xizr\") (\"Xoa\") (\"aXam\" . t) (\"IlX\") (\"niX \") (\"Xy \") (\"baliX\") (\"riXe\") (\" Xari \") (\" aXiz\") (\"n aXisini\") (\"Xart\") (\"CeXi\") (\"fX \") (\"pX \") (\" aXar \") (\" Xevd\") (\"sXi \" . t) (\"beX\") (\"rXasina\") (\"Xoh\") (\" veX\") (\"elXe\") (\"uXat\") (\" uXa\" . t) (\"Xaro\") (\"aXile\") (\" Xere\") (\" biX\" . t) (\" iXi\" . t) (\"Xarr\") (\"luXa\") (\"alXil\") (\"olX\") (\"Xinsel\") (\" Xard\") (\"nXs\" . t) (\"fX\" . t) (\"Xord\") (\"baXi\") (\"inXer\" . t) (\" seXe\" . t) (\"vaXi\") (\" Xm\") (\" keX\" . t) (\"Xavi\") (\" Xeket\") (\"rXes\") (\"zliX\") (\"Xell\") (\"perinX\" . t) (\"Xembe\" . t) (\" eriX\") (\"ilaXi\") (\"bOX\") (\" UXe\" . t) (\"barX\") (\"Xuv\" . t) (\"Xilt\") (\"Xige\") (\"diX\") (\"uXur\" . t) (\" Xaydi\") (\" Xumr\" . t) (\" aXar\" . t) (\"eXete\" . t) (\"Xkh\") (\"Xate\") (\"Xevh\") (\" Xim \") (\"GaXi\") (\"urtiX\" . t) (\"Xn\") (\" Xoo\") (\"urXa\") (\"GXi\") (\"iraX\") (\"OXa\") (\"gOX\" . t) (\"bilanX\" . t) (\"hX\" . t) (\" Xadir\" . t) (\"Xou\") (\"riXi\") (\"meXhu\" . t) (\"bX \") (\"Xke\") (\"yeX\") (\"tXa \" . t) (\"Xinar\" . t) (\"aziX\" . t) (\"Xerr\") (\" Xarl\") (\"yX\") (\" Xamas\" . t) (\"eXenin \") (\"eXem\" . t) (\"Xaf\") (\"IXal\") (\"eXebi\" . t) (\"harXa\") (\" reX\") (\"kXan\") (\"sIXr\" . t) (\"Xinl\" . t) (\"Xamur\" . t) (\"aXima\") (\"Xo \") (\"ikaXi\") (\"aXabi\" . t) (\" Xesu\") (\"Xiro\") (\"nXt\" . t) (\"Xeh\") (\"Xanta\" . t) (\"aXilig\") (\"Xeyr\" . t) (\"meXi\") (\"jaX\") (\"Xto\") (\"Xogr\") (\"niXe\") (\" maXa \" . t) (\" gerX\" . t) (\"tXu\" . t) (\" merX\") (\" Xela\") (\"uXuk\" . t) (\" Xese\") (\"taXi\") (\" Xanak\" . t) (\"Xon\") (\"cX\") (\"Xah\") (\"Xc\") (\" uXus\" . t) (\"aXil \") (\"zaX\") (\"Xuku\" . t) (\"leX\") (\" Xeb\") (\"parX\" . t) (\"kuXa\") (\" muX\") (\"Xuru\" . t) (\"aXilik\") (\" Xey\") (\"iXa\") (\"yaXi\") (\" Xesa\") (\" Xas\") (\" Xank\" . t) (\"elX\" . t) (\"buX\") (\"Xom\") (\"iXil\") (\"aXac\" . t) (\" X \") (\" aXan\" . t) (\"pX\" . t) (\" iXi\" . t) (\"haX\") (\"Xih\") (\"Xia\") (\"sviX\" . t) (\"Xos\") (\"Xaz\") (\"eXik\") (\"eXec\" . t) (\"neX\") (\"Xiv\") (\"suX\" . t) (\"Xz\") (\"tX \") (\"Xd\") (\" maXi\" . t) (\" Xin \" . t) (\"sX\") (\"UXe\") (\"zX\") (\"Xep\") (\" Xin\") (\"reXi\") (\"sIX\") (\"yiX\") (\"aXe\") (\"SX\" . t) (\"aXilar\") (\" Xeva\") (\" Xl\") (\"raXi\") (\"geXer\" . t) (\" OlX\" . t) (\" kaX\" . t) (\"ilXi\") (\" UXu\" . t) (\" Xen\") (\"vX\") (\"IXi\") (\"Xem\") (\"Xk \") (\"rXe \") (\"amaXi\") (\" Xid\") (\"tXi\" . t) (\"teX\") (\"Xam\") (\"rXi\") (\"Xunk\" . t) (\"Xr\") (\"nXl\" . t) (\"Xad\") (\" kUX\" . t) (\"kX\" . t) (\"mX\") (\"oXa\") (\" meX\") (\"eXen\" . t) (\"Xez\") (\"Xan\") (\"nX \" . t) (\"tiX\") (\"Xa \") (\"Xh\") (\"Xi \") (\"Xu\") (\"eXe\") (\"aXa\") (\"nX\") (\"X\" . t)",
                 "g (\" s iX\" . t) (\" oraX\") (\"loXi \" . t) (\"itelX\" . t) (\"zilXi\" . t) (\"r oXr\") (\"aroXu\") (\"teXes\") (\"Ig aX\") (\"zdIX \") (\"i teX\" . t) (\"p leX\" . t) (\"b OXe\") (\"boruX\") (\"dayIX\") (\"moraX\") (\"saXik\") (\"h OXe\") (\"o taX\") (\"e eX \") (\"h maX\" . t) (\"aediX\") (\"C veX\" . t) (\"padoX\") (\"r aXn\") (\"idiXu\" . t) (\"raXbi\") (\"Xaini\" . t) (\"diXis\" . t) (\"dedeX\") (\"remiX\") (\" tuXu\") (\"rbuXu\") (\"ihaXa\" . t) (\"reXle\") (\"imilX\" . t) (\"akbuX\") (\"Xayan\") (\"atsaX\") (\"y OXe\") (\"nuraX\") (\"seXis\") (\"eXeti\" . t) (\" IcoX\") (\"saXat\" . t) (\"tlukX\" . t) (\"z edX\" . t) (\"azbeX\") (\"ndaXa\") (\"gOrXe\" . t) (\"ereX \" . t) (\"Ge aX\" . t) (\"beliX\" . t) (\"coXal\") (\"aldiX\") (\"attiX\") (\"Xard \") (\"aXall\") (\"niXir\") (\"viraX\") (\"istiX\" . t) (\"tanoX\" . t) (\"zaXra\" . t) (\"eolaX\") (\"guluX\") (\" toXr\" . t) (\"baXal\" . t) (\" e aX\" . t) (\"yeleX\" . t) (\"reneX\" . t) (\"maXal\") (\"Xarde\") (\"erlaX\") (\" asaX\") (\"ediXe\") (\"dIXil\") (\"boXan\" . t) (\"olleX\") (\" triX\") (\" blaX\") (\"t aXr\" . t) (\" eXen\" . t) (\"aireX\") (\"hi OX\" . t) (\"Xers \") (\" raXi\") (\"iSeXe\") (\"az aX\" . t) (\"lu aX\" . t) (\"Xulas\") (\"s aX \") (\" i OX\" . t) (\"eXen5\" . t) (\" aXar\" . t) (\"oXlar\") (\" liXd\") (\"0 doX\" . t) (\"n SaX\") (\"Xusal\") (\" etiX\" . t) (\"gereX\" . t) (\"ca aX\" . t) (\"k daX\" . t) (\" eroX\" . t) (\"ikliX\" . t) (\"aXisl\" . t) (\"Gi OX\" . t) (\"Xute \") (\"Xelir\") (\"Xlene\" . t) (\"irliX\" . t) (\"Xerce\") (\"ifeX\") (\"maaX\") (\" SuX\") (\"OliX\") (\"cagX\" . t) (\"naXl\") (\"huXu\") (\" dXe\" . t) (\"esaX\") (\"neX \" . t) (\" iIX\") (\"ylUX\") (\"laXn\") (\"siXb\" . t) (\"IXit\") (\"caXr\" . t) (\"OzUX\") (\"Xasv\") (\"SUlX\" . t) (\"toX \" . t) (\"vedX\") (\"ltaX\") (\"naXs\") (\"dbaX\") (\"nouX\" . t) (\"imXa\" . t) (\"CilX\" . t) (\" dIX\") (\"teXd\") (\"gcaX\") (\"Xcag\") (\"taIX\") (\"rOXe\") (\" dXu\" . t) (\"oldX\") (\"ysaX\" . t) (\"ovaX\") (\" cXr\" . t) (\"C iX\" . t) (\" iXe\") (\"i sX\" . t) (\"oneX\") (\"kreX\") (\"yaXr\") (\"CamX\" . t) (\"bOXl\") (\"badX\") (\"flaX\") (\"lulX\" . t) (\"sraX\") (\"taXl\") (\"leXl\") (\"moX \" . t) (\"SIlX\" . t) (\"Xva \" . t) (\"lilX\" . t) (\"vaXa\") (\"IbuX\") (\"Xnac\") (\"eXn \") (\"Xanf\") (\"ebuX\") (\"ioXa\") (\"nbuX\") (\" rIX\") (\"hCeX\") (\"zuXd\") (\"aXia\") (\"kriX\") (\"ofaX\") (\"hoXa\") (\"Xann\") (\"aXaf\") (\"Xges\") (\"bruX\") (\"Xlai\") (\"vkiX\") (\"uyuX\") (\"biXe\") (\"Xnie\") (\"utIX\") (\"duXa\") (\"seeX\") (\"aleX\") (\"laiX\" . t) (\"Xlaj\") (\"Xgoz\" . t) (\"taXu\") (\" IXa\") (\"mleX\" . t) (\"lbaX\" . t) (\"kXi \" . t) (\"kiXi\" . t) (\"braX\") (\"uXuk\") (\" riX\") (\"rtXu\" . t) (\" uXa\") (\"rleX\" . t) (\"lXla\" . t) (\"duXi\" . t) (\"Xamo\") (\"zaiX\" . t) (\"Xlac\" . t) (\"Xado\") (\"apoX\" . t) (\"zcaX\" . t) (\"rluX\" . t) (\"eyoX\" . t) (\"baXr\" . t) (\"Xel \") (\"sliX\" . t) (\"zliX\" . t) (\"Xame\") (\"icaX\") (\"nliX\" . t) (\" veX\") (\"aXe \") (\"mliX\" . t) (\"Xerf\") (\"alIX\" . t) (\"doXu\" . t) (\"tIXi\" . t) (\"oXf\") (\"fUX\") (\"wIX\") (\"klX\" . t) (\"fOX\") (\"uXz\") (\"rdX\" . t) (\"sXl\" . t) (\"Xdy\") (\"GGX\" . t) (\"ocX\" . t) (\"zlX\" . t) (\"uIX\") (\"Xrk\" . t) (\"Xfo\") (\"bIX\") (\"Xce\" . t) (\"iGX\" . t) (\"IiX\" . t) (\"prX\" . t) (\"uXy\") (\" cX\") (\"ucX\" . t) (\"Xea\") (\"Xp \") (\"Xve\" . t) (\"aGX\") (\"Xak\") (\"Xei\") (\"weX\") (\"UXi\") (\"mXy\" . t) (\"Xml\") (\"rgX\" . t) (\"odX\") (\"Xsy\") (\"Xgy\") (\"zeX\") (\"heX\") (\"Xba\" . t) (\"UXa\") (\"yIX\" . t) (\"Xfl\") (\"Xap\") (\"gOX\" . t) (\"gaX\") (\" tX\") (\"Xt \") (\"IoX\" . t) (\"Xav\") (\"euX\") (\"soX\" . t) (\"OXr\" . t) (\"0X\" . t) (\"wX\") (\"Xq\") (\"sX\") (\"nX\") (\"rX\") (\"lI diyaloXun \") (\"mla diyaloX\") (\"  fotoXrafe\") (\"0 da fotoX\") (\"ik OXeler \") (\"i OXeleri \") (\"s elekdaX\") (\"k liXini \" . t) (\"ve yaXin\") (\"una aXit\" . t) (\"a bu OXe\") (\"g civaoX\") (\"toXrafik\") (\"r buXu \" . t) (\"ir doXm\") (\"d baXir\") (\"aik liX\" . t) (\"aXusta \") (\" eleXe \" . t) (\"tiracaX\") (\"ikoloXl\") (\"ngeliX\") (\"lo aXa\") (\"Xdatia\") (\"ar moX\") (\"a OXes\") (\" 8 liX\" . t) (\" yaXil\") (\" y doX\") (\"r OXel\") (\"gorduX\") (\"restiX\") (\"IXaray\") (\" buXu \") (\"beSeX\") (\"pfluX\") (\"Xdela\") (\"aXaz \") (\"capaX\") (\"naXan\") (\"Xunus\" . t) (\" naXr\" . t) (\"iXre \" . t) (\" Xini\" . t) (\"C S X\" . t) (\" bliX\") (\"dIXan\") (\"t OXe\") (\"luXus\") (\"etlaX\") (\"kaXir\") (\"OndeX\") (\"sadiX\") (\"aptiX\") (\"laXil\") (\"Xasio\") (\"meXip\") (\"5 liX\" . t) (\"iXlik\" . t) (\"solaX\") (\" aXil\" . t) (\"t oXa\" . t) (\"nz aX\") (\"oXlas\") (\" leXi\") (\"Ir aX\" . t) (\"arliX\") (\"praX \") (\"saXar\") (\"inaXa\") (\"7 liX\" . t) (\"sa aX\" . t) (\"en OX\" . t) (\"OrneX\" . t) (\"a daX\" . t) (\"osiX\") (\"ktaX\") (\"Xnig\" . t) (\"graX\") (\"niXb\" . t) (\"beaX\") (\"ndXu\" . t) (\"udXu\" . t) (\"smiX\") (\"yelX\" . t) (\"roXa\") (\"maXm\") (\"doXn\" . t) (\"cilX\" . t) (\"claX\") (\" faX\") (\"naXr\") (\"Xse \" . t) (\" uXl\") (\"Xach\") (\"sceX\") (\"noXa\") (\"Xuti\") (\"aXgu\" . t) (\"aiXe\") (\"eXla\") (\"Xzan\") (\"oXda\") (\"saXl\" . t) (\"Xlin\") (\"ioXr\") (\"raXu\") (\"eluX\") (\"eXra\") (\" toX\") (\"ldiX\" . t) (\"baXi\" . t) (\"ttiX\" . t) (\"Xelm\") (\"Xast\") (\"IaXi\") (\"lduX\" . t) (\"gIX\") (\"oGX\" . t) (\"oXb\") (\" gX\" . t) (\"mcX\") (\"juX\") (\"Xiv\") (\"Xga\") (\"nUX\") (\"eXg\") (\"Xno\") (\"sIX\" . t) (\"iXa\") (\"oXy\") (\"CoX\" . t) (\"Xto\") (\"pX\") (\"an OXeler \") (\"li OXes\") (\" leXeni\" . t) (\"iliXis\") (\" maXas\") (\" uXula\") (\"oyacIX\") (\"Xrafyo\" . t) (\"kanIlX\" . t) (\"leXenl\" . t) (\"ye aXi\" . t) (\"Xrafk\") (\"Xmayp\") (\"straX\") (\" laXa\") (\"maXad\") (\"malaX\") (\"Xlise\") (\"baliX\" . t) (\"eXida\") (\"baXaz\" . t) (\"apliX\") (\"moXal\" . t) (\"taraX\" . t) (\"e taX\") (\" oXan\") (\"litoX\") (\"bu aX\" . t) (\"oXman\") (\"bsaX\") (\" pOX\") (\"bOXe\") (\" giX\") (\" IX \") (\"liXm\" . t) (\" mIX\") (\"otaX\" . t) (\"kilX\" . t) (\"yeX \" . t) (\"rilX\" . t) (\"Xing\") (\"kruX\") (\"druX\") (\" zoX\") (\"OceX\" . t) (\"taXi\" . t) (\"Xanu\" . t) (\"driX\") (\"roXr\") (\"lOX\") (\"Xaw\") (\"IXe\") (\"Xf \") (\"iXc\" . t) (\"atX\") (\"Xd \") (\"wiX\") (\"feX\" . t) (\"hiX\") (\"eXa\") (\"bX\") (\"kX\") (\" X\") (\"Xalass\") (\"ileXe \" . t) (\"baXan \" . t) (\"unaXa\") (\" aXik\") (\"beXel\") (\" raXa\") (\" oriX\") (\"aXrot\" . t) (\"ediX \" . t) (\" diX \" . t) (\"maXda\") (\"kuruX\") (\"eoloX\") (\"soluX\" . t) (\"ir aX\" . t) (\"Xarli\") (\"anuX\") (\"deXu\") (\"oXle\") (\"eXm \") (\"truX\") (\"bUXe\") (\"niaX\") (\"iXes\") (\" vaX\") (\"sIlX\" . t) (\" ziX\") (\"ktiX\" . t) (\"fraX\") (\"rlX\" . t) (\"ntX\") (\"Xmi\" . t) (\"eXo\") (\"Xy \") (\"aXandan \" . t) (\"poXrafi\") (\"im beX\" . t) (\"meneX\") (\" tiXe\") (\" iXde\" . t) (\"mireX\" . t) (\"iXida\") (\"matoX\") (\"baXa \" . t) (\" a aX\" . t) (\"oXli\") (\"iXib\") (\"viX \" . t) (\"taXn\") (\"Xdeb\") (\" hoX\") (\"siXn\") (\" ruX\") (\"rUlX\" . t) (\"elaX\") (\"proX\") (\"Xlo\") (\"er OXe\") (\"boXus \") (\"rdiX \" . t) (\"leXer\") (\"oXano\" . t) (\" muXa\") (\"liXn\" . t) (\" eX \" . t) (\"yoXa\") (\"Xrap\") (\" CaX\" . t) (\"waX\") (\"Xt \") (\"subuX\") (\" maXi\") (\"cIlXi\" . t) (\"neXer\") (\"SeXe \" . t) (\" beXi\") (\" oXd\") (\" iXi\") (\"uXle\") (\"Xiad\") (\"opaX\") (\"Xb \") (\"eiX\") (\" maXa \") (\"Xinat\") (\"oXlan\" . t) (\" eXt\" . t) (\"Xask\") (\"luXg\") (\"paXu\") (\"coiX\") (\"uXar\") (\"afX\") (\"irbaX\") (\"oXart\") (\"moXa\") (\"ruXg\") (\"nlX\" . t) (\"Xgs\") (\"aXasi \" . t) (\"Xment\") (\" buXs\") (\"bUXu\") (\" paX\") (\"taiX\") (\"gzaX\") (\"draX\") (\"mX\") (\"lIXil\") (\" IXl\") (\"IXaz\") (\" biX\") (\"Xro\") (\"Xland \") (\"aXun\") (\"aXuc\") (\"aXle\") (\"guX\") (\"Xai\") (\"Xui\") (\"leXen \" . t) (\" naXa\") (\"bliXd\" . t) (\"Xmati\") (\" IXn\") (\"maX \") (\"oXi\") (\" briX\") (\"Xlia\") (\"OXet\") (\"luiX\") (\"efiX\" . t) (\"OpeX\" . t) (\" yiX\" . t) (\"Xmo\") (\" OXer \") (\"oXmala\") (\"gulaX\") (\"koXr\") (\"Xass\") (\"Xas \") (\"mUX\") (\"ieX\") (\"oXn\") (\" naXi\") (\" reX\") (\" zaX\") (\"Xue\") (\"uXi\") (\"m aX \") (\"Xanis\") (\"maXn\") (\"Xdi\" . t) (\"seXe\" . t) (\"uXan\") (\" saXan \") (\"aXil \") (\" diXi\") (\"Xgi\") (\"taX \") (\"goX\") (\"CX\") (\"Xie \") (\"Xs \") (\"Xah\") (\"SX\") (\"bliXl\" . t) (\" CaXa\" . t) (\"aXac\" . t) (\"iXf\" . t) (\"moXr\") (\"voX\") (\"oXre\") (\"toXa\") (\"gaX\") (\"Xat\") (\"doXr\" . t) (\"iXel\") (\" moXo\" . t) (\"iXil \") (\"aXip \") (\"Xua\") (\"iXem\") (\"Xay \") (\"reXe \" . t) (\"oX \") (\"Xide\") (\"yun eX\" . t) (\" aXit \") (\"dar tuXla \") (\"aXne\") (\"auX\") (\"oXa \" . t) (\"aXg\") (\"rkeX\" . t) (\" tUX\") (\"noXr\") (\" iXr\" . t) (\" saXo\" . t) (\"iyoX\") (\"gX\") (\"eaXa\") (\"ouX\") (\"eoXr\") (\"aXul\") (\" eXr\" . t) (\"Xic\") (\"neXe \" . t) (\"iXen\") (\"CeXe\" . t) (\"deX\" . t) (\"aXre\") (\"uXe\") (\"sleX\" . t) (\"aXra\") (\"Xano\") (\"oXe\") (\"bliX \" . t) (\" baXa\") (\"CiX\" . t) (\"aXazi\") (\"IXu\") (\"teXe\" . t) (\"yeXe\" . t) (\" vuX\") (\"meXe \" . t) (\"niXd\" . t) (\"eXm\" . t) (\" oXun\") (\" praX\") (\"Xio\") (\"eceX\" . t) (\"oXu\" . t) (\"aXe\") (\"oXlu\" . t) (\"Xanda\") (\"araX\") (\"uXay\") (\"Xne\" . t) (\"Xh\") (\"haX\") (\"beXe\" . t) (\"eXl\" . t) (\"Xo\") (\"loX\") (\" liX\") (\"zX\") (\"vX\") (\"IX\" . t) (\"yX\") (\"oXram\") (\"iXe\" . t) (\"eXer\" . t) (\" buXun\") (\"UX\" . t) (\"nX\") (\"rX\") (\"OX\" . t) (\"lX\") (\"oX\" . t) (\"uX\" . t) (\"aX\" . t) (\" X\") (\"Xi\" . t) (\"X\")",
@@ -110,34 +76,20 @@ public class App {
                     sing = 1;
                 }
 
+                // patterns are quoted in turkish.el
+                part = part.substring(1, part.length() - 1);
+
                 if (!hashMap.containsKey(part)) {
                     hashMap.put(part, counter * sing);
                 }
             }
 
-            PrintWriter output = new PrintWriter(Files.newBufferedWriter(
-                    Paths.get("src/main/java/org/apache/lucene/analysis/tr/util/", "Map" + Character.toUpperCase(c) + ".java"), StandardCharsets.UTF_8));
-
-            output.printf(header, Character.toUpperCase(c), Character.toUpperCase(c), hashMap.size());
-            output.println();
-            output.print("            ");
-
-            int indent = 0;
-            for (Map.Entry<String, Integer> entry : hashMap.entrySet()) {
-                output.print("put(" + entry.getKey() + ", " + entry.getValue() + ");");
-                if (++indent % 3 == 0) {
-                    output.println();
-                    output.print("            ");
-                } else output.print(" ");
+            PatternMatcher matcher = PatternMatcher.compile(hashMap);
+            try (OutputStream output = Files.newOutputStream(dir.resolve(PatternTableFactory.resourceName(c)))) {
+                matcher.write(output);
             }
 
-            output.println();
-            output.print(footer);
-
-            output.flush();
-            output.close();
-
-            System.out.println(c + "  counter=" + counter + " map.size=" + hashMap.size());
+            System.out.println(c + "  counter=" + counter + " map.size=" + hashMap.size() + " states=" + matcher.stateCount());
 
         }
     }
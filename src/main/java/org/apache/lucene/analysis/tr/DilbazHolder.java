@@ -0,0 +1,100 @@
+package org.apache.lucene.analysis.tr;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import MorphologicalAnalysis.FsmMorphologicalAnalyzer;
+import MorphologicalAnalysis.FsmParseList;
+
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A small pool of <a href="https://github.com/StarlangSoftware/TurkishMorphologicalAnalysis">Starlang</a>
+ * {@link FsmMorphologicalAnalyzer} instances, shared by all {@link DilbazStemFilterFactory} instances of the
+ * JVM. An analyzer keeps an unsynchronized cache of its own, so each one serves a single thread at a time;
+ * rather than queueing every thread behind one analyzer, another one is loaded when all are busy, up to the
+ * largest size reserved by a factory. Analyzers are loaded on demand, not when a factory is constructed.
+ */
+final class DilbazHolder {
+
+    private static final BlockingDeque<FsmMorphologicalAnalyzer> idle = new LinkedBlockingDeque<>();
+    private static final AtomicInteger created = new AtomicInteger();
+    private static volatile int limit = 1;
+
+    private DilbazHolder() {
+    }
+
+    /**
+     * Raises the number of analyzers the pool may load to at least the given size.
+     */
+    static synchronized void reserve(int size) {
+        if (size > limit) limit = size;
+    }
+
+    /**
+     * Analyses the word with an analyzer of the pool, waiting for one only if as many as allowed are busy.
+     * Callers put a concurrent cache in front of this.
+     */
+    static FsmParseList analyze(String word) {
+        final FsmMorphologicalAnalyzer fsm = borrow();
+        try {
+            return fsm.morphologicalAnalysis(word);
+        } finally {
+            // most recently used first, so that a lightly loaded node keeps reusing a warm analyzer cache
+            idle.offerFirst(fsm);
+        }
+    }
+
+    private static FsmMorphologicalAnalyzer borrow() {
+        FsmMorphologicalAnalyzer fsm = idle.pollFirst();
+        if (fsm != null) return fsm;
+
+        for (int n = created.get(); n < limit; n = created.get()) {
+            if (created.compareAndSet(n, n + 1)) {
+                try {
+                    return new FsmMorphologicalAnalyzer();
+                } catch (RuntimeException | Error e) {
+                    // a failed load is not remembered, the next call tries again
+                    created.decrementAndGet();
+                    throw e;
+                }
+            }
+        }
+
+        boolean interrupted = false;
+        try {
+            while (true) {
+                try {
+                    return idle.takeFirst();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        } finally {
+            if (interrupted) Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * @return number of analyzers loaded so far
+     */
+    static int size() {
+        return created.get();
+    }
+}
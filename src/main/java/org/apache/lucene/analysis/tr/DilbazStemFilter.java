@@ -0,0 +1,258 @@
+package org.apache.lucene.analysis.tr;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import MorphologicalAnalysis.FsmParse;
+import MorphologicalAnalysis.FsmParseList;
+import MorphologicalDisambiguation.MorphologicalDisambiguator;
+import org.apache.lucene.analysis.TokenFilter;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.analysis.tokenattributes.KeywordAttribute;
+import org.apache.lucene.analysis.tokenattributes.OffsetAttribute;
+import org.apache.lucene.analysis.tokenattributes.SentenceAttribute;
+import org.apache.lucene.analysis.tr.util.ConcurrentLRUCache;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Stemmer based on the <a href="https://github.com/StarlangSoftware/TurkishMorphologicalAnalysis">Starlang</a>
+ * morphological analyzer. The stem is the root word of the parse with the longest root, or of the parse
+ * chosen by a disambiguator.
+ * <p>
+ * With a disambiguator and a window greater than one, the filter reads ahead up to the end of a sentence or
+ * that many tokens, analyzes the distinct words among them once, disambiguates the whole window in a single
+ * pass, so that context-aware disambiguators see the neighbouring words, and then replays the buffered tokens
+ * with their stems applied. A sentence ends at a token ending with {@code .}, {@code !} or {@code ?}, at a
+ * change of {@link SentenceAttribute}, or where the offsets of consecutive tokens leave a gap of more than one
+ * character, as punctuation dropped by tokenizers such as {@code StandardTokenizer} does. The gap also splits
+ * windows at commas and at removed tokens, so the filter belongs before stop word filters.
+ */
+public final class DilbazStemFilter extends TokenFilter {
+
+    private final ConcurrentLRUCache<String, FsmParseList> cache;
+    private final MorphologicalDisambiguator disambiguator;
+    private final int window;
+
+    private final CharTermAttribute termAttribute = addAttribute(CharTermAttribute.class);
+    private final KeywordAttribute keywordAttribute = addAttribute(KeywordAttribute.class);
+    private final OffsetAttribute offsetAttribute = addAttribute(OffsetAttribute.class);
+    private final SentenceAttribute sentenceAttribute = addAttribute(SentenceAttribute.class);
+
+    // read-ahead window, used only with a disambiguator and window > 1
+    private final List<State> states = new ArrayList<>();
+    private final List<String> words = new ArrayList<>();
+    private final List<String> stems = new ArrayList<>();
+    private final Map<String, FsmParseList> analyses = new HashMap<>();
+    private int replay = 0;
+    private boolean exhausted = false;
+    // first token of the next sentence, read while filling the current window
+    private State pending = null;
+    private int lastEnd = 0;
+    private int lastSentence = 0;
+
+    /**
+     * @param cache         optional cache of analyses, typically shared by all filters of a factory
+     * @param disambiguator chooses among the parses of a word, or null for the parse with the longest root;
+     *                      used by this filter only, so it need not be thread-safe
+     */
+    public DilbazStemFilter(TokenStream input, ConcurrentLRUCache<String, FsmParseList> cache, MorphologicalDisambiguator disambiguator) {
+        this(input, cache, disambiguator, 1);
+    }
+
+    /**
+     * @param window maximum number of tokens read ahead and disambiguated together
+     */
+    public DilbazStemFilter(TokenStream input, ConcurrentLRUCache<String, FsmParseList> cache, MorphologicalDisambiguator disambiguator, int window) {
+        super(input);
+        if (window < 1)
+            throw new IllegalArgumentException("window must be positive: " + window);
+        this.cache = cache;
+        this.disambiguator = disambiguator;
+        this.window = window;
+    }
+
+    /**
+     * @return the parses of the word, possibly a cached instance shared with other threads and never to be
+     * modified; see {@link #copy(FsmParseList)}
+     */
+    static FsmParseList analyze(String word, ConcurrentLRUCache<String, FsmParseList> cache) {
+        if (cache == null) return DilbazHolder.analyze(word);
+
+        FsmParseList parses = cache.get(word);
+        if (parses == null) {
+            parses = DilbazHolder.analyze(word);
+            cache.put(word, parses);
+        }
+        return parses;
+    }
+
+    static String stem(FsmParseList parses, MorphologicalDisambiguator disambiguator) {
+        if (parses.size() == 0) return null;
+        if (disambiguator == null || parses.size() == 1)
+            return parses.getParseWithLongestRootWord().getWord().getName();
+
+        final List<FsmParse> chosen = disambiguator.disambiguate(new FsmParseList[]{copy(parses)});
+        return chosen == null || chosen.isEmpty() ? parses.getParseWithLongestRootWord().getWord().getName()
+                : chosen.get(0).getWord().getName();
+    }
+
+    /**
+     * Disambiguators narrow the lists they are given in place, so they get a copy of the cached parses.
+     */
+    static FsmParseList copy(FsmParseList parses) {
+        final ArrayList<FsmParse> list = new ArrayList<>(parses.size());
+        for (int i = 0; i < parses.size(); i++)
+            list.add(parses.getFsmParse(i));
+        return new FsmParseList(list);
+    }
+
+    @Override
+    public boolean incrementToken() throws IOException {
+
+        if (disambiguator != null && window > 1) return incrementWindow();
+
+        if (!input.incrementToken()) return false;
+        if (keywordAttribute.isKeyword()) return true;
+
+        final String term = termAttribute.toString();
+        final String s = stem(analyze(term, cache), disambiguator);
+
+        // If not stemmed, don't waste the time adjusting the token.
+        if ((s != null) && !s.equals(term))
+            termAttribute.setEmpty().append(s);
+
+        return true;
+    }
+
+    private boolean incrementWindow() throws IOException {
+
+        if (replay == states.size()) {
+            if (!fill()) return false;
+        }
+
+        restoreState(states.get(replay));
+        final String term = words.get(replay);
+        final String s = stems.get(replay);
+        replay++;
+
+        // If not stemmed, don't waste the time adjusting the token.
+        if ((s != null) && !s.equals(term))
+            termAttribute.setEmpty().append(s);
+
+        return true;
+    }
+
+    /**
+     * Buffers the tokens up to the end of the next sentence or window and stems them.
+     *
+     * @return false if the input has no more tokens
+     */
+    private boolean fill() throws IOException {
+
+        states.clear();
+        words.clear();
+        stems.clear();
+        analyses.clear();
+        replay = 0;
+
+        while (states.size() < window) {
+            if (pending != null) {
+                restoreState(pending);
+                pending = null;
+            } else if (exhausted || !input.incrementToken()) {
+                exhausted = true;
+                break;
+            } else if (!states.isEmpty() && startsSentence()) {
+                pending = captureState();
+                break;
+            }
+            lastEnd = offsetAttribute.endOffset();
+            lastSentence = sentenceAttribute.getSentenceIndex();
+            states.add(captureState());
+
+            if (keywordAttribute.isKeyword()) {
+                words.add(null);
+                continue;
+            }
+
+            final String term = termAttribute.toString();
+            words.add(term);
+            if (!analyses.containsKey(term))
+                analyses.put(term, analyze(term, cache));
+
+            if (endsSentence(term)) break;
+        }
+
+        if (states.isEmpty()) return false;
+
+        // words without a parse have nothing to disambiguate and stay out of the context; every position gets
+        // a list of its own, since the disambiguator may narrow it, and a repeated word must not affect the others
+        final List<FsmParseList> context = new ArrayList<>(words.size());
+        for (String term : words) {
+            final FsmParseList parses = term == null ? null : analyses.get(term);
+            if (parses != null && parses.size() > 0) context.add(copy(parses));
+        }
+
+        final List<FsmParse> chosen = context.isEmpty() ? null : disambiguator.disambiguate(context.toArray(new FsmParseList[0]));
+        final boolean aligned = chosen != null && chosen.size() == context.size();
+
+        int c = 0;
+        for (String term : words) {
+            final FsmParseList parses = term == null ? null : analyses.get(term);
+            if (parses == null || parses.size() == 0) {
+                stems.add(null);
+            } else if (aligned && chosen.get(c) != null) {
+                stems.add(chosen.get(c++).getWord().getName());
+            } else {
+                c++;
+                stems.add(parses.getParseWithLongestRootWord().getWord().getName());
+            }
+        }
+
+        return true;
+    }
+
+    private boolean startsSentence() {
+        return sentenceAttribute.getSentenceIndex() != lastSentence || offsetAttribute.startOffset() > lastEnd + 1;
+    }
+
+    private static boolean endsSentence(String term) {
+        if (term.isEmpty()) return false;
+        final char last = term.charAt(term.length() - 1);
+        return last == '.' || last == '!' || last == '?';
+    }
+
+    @Override
+    public void reset() throws IOException {
+        super.reset();
+        states.clear();
+        words.clear();
+        stems.clear();
+        analyses.clear();
+        replay = 0;
+        exhausted = false;
+        pending = null;
+        lastEnd = 0;
+        lastSentence = 0;
+    }
+}
@@ -1,16 +1,131 @@
 package org.apache.lucene.analysis.tr;
 
-import MorphologicalAnalysis.FsmMorphologicalAnalyzer;
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
 import MorphologicalAnalysis.FsmParse;
 import MorphologicalAnalysis.FsmParseList;
 import MorphologicalDisambiguation.LongestRootFirstDisambiguation;
 import MorphologicalDisambiguation.MorphologicalDisambiguator;
+import org.apache.lucene.analysis.TokenFilterFactory;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.tr.util.ConcurrentLRUCache;
+import org.apache.lucene.util.ResourceLoader;
+import org.apache.lucene.util.ResourceLoaderAware;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Factory for {@link DilbazStemFilter}.
+ * <pre class="prettyprint">
+ * &lt;fieldType name="text_tr_dilbaz" class="solr.TextField" positionIncrementGap="100"&gt;
+ * &lt;analyzer&gt;
+ * &lt;tokenizer class="solr.StandardTokenizerFactory"/&gt;
+ * &lt;filter class="solr.ApostropheFilterFactory"/&gt;
+ * &lt;filter class="solr.TurkishLowerCaseFilterFactory"/&gt;
+ * &lt;filter class="org.apache.lucene.analysis.tr.DilbazStemFilterFactory" disambiguator="longestRoot" cacheSize="10000" window="64" analyzers="4"/&gt;
+ * &lt;/analyzer&gt;
+ * &lt;/fieldType&gt;</pre>
+ * The {@code disambiguator} is {@code longestRoot} to take the parse with the longest root word,
+ * {@code longestRootFirst} for {@link LongestRootFirstDisambiguation}, or the class name of any other
+ * {@link MorphologicalDisambiguator}. Disambiguators are not assumed to be thread-safe: each filter, that is
+ * each indexing thread of each field, gets an instance of its own and loads its model when it is created. A
+ * disambiguator sees a sentence, or at most {@code window} tokens, at a time.
+ * <p>
+ * The Starlang analyzers are shared by all factories, {@code analyzers} being the most that may be loaded to
+ * analyze words in parallel; see {@link DilbazHolder}.
+ */
+public class DilbazStemFilterFactory extends TokenFilterFactory implements ResourceLoaderAware {
+
+    static final int DEFAULT_CACHE_SIZE = 10000;
+    static final int DEFAULT_WINDOW = 64;
+    static final int DEFAULT_ANALYZERS = Math.min(4, Runtime.getRuntime().availableProcessors());
+
+    private final String disambiguatorName;
+    private final int window;
+    private final int analyzers;
+    private final ConcurrentLRUCache<String, FsmParseList> cache;
+    private Class<? extends MorphologicalDisambiguator> disambiguatorClass;
+
+    public DilbazStemFilterFactory(Map<String, String> args) {
+        super(args);
+        disambiguatorName = get(args, "disambiguator", "longestRoot");
+        final int cacheSize = getInt(args, "cacheSize", DEFAULT_CACHE_SIZE);
+        window = getInt(args, "window", DEFAULT_WINDOW);
+        analyzers = getInt(args, "analyzers", DEFAULT_ANALYZERS);
+
+        if (!args.isEmpty()) {
+            throw new IllegalArgumentException("Unknown parameters: " + args);
+        }
+
+        if (cacheSize < 0)
+            throw new IllegalArgumentException("cacheSize must be non-negative: " + cacheSize);
+
+        if (window < 1)
+            throw new IllegalArgumentException("window must be positive: " + window);
+
+        if (analyzers < 1)
+            throw new IllegalArgumentException("analyzers must be positive: " + analyzers);
+
+        cache = cacheSize > 0 ? new ConcurrentLRUCache<>(cacheSize) : null;
+    }
+
+    @Override
+    public void inform(ResourceLoader loader) throws IOException {
+        DilbazHolder.reserve(analyzers);
+        switch (disambiguatorName) {
+            case "longestRoot":
+                disambiguatorClass = null;
+                break;
+            case "longestRootFirst":
+                disambiguatorClass = LongestRootFirstDisambiguation.class;
+                break;
+            default:
+                disambiguatorClass = loader.findClass(disambiguatorName, MorphologicalDisambiguator.class);
+        }
+    }
+
+    private MorphologicalDisambiguator newDisambiguator() {
+        if (disambiguatorClass == null) return null;
+        if (disambiguatorClass == LongestRootFirstDisambiguation.class) return new LongestRootFirstDisambiguation();
+        final MorphologicalDisambiguator disambiguator;
+        try {
+            disambiguator = disambiguatorClass.getConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalArgumentException("cannot create disambiguator " + disambiguatorName, e);
+        }
+        disambiguator.loadModel();
+        return disambiguator;
+    }
+
+    /**
+     * @return the cache of analyses shared by the filters of this factory, or null if disabled
+     */
+    public ConcurrentLRUCache<String, FsmParseList> getCache() {
+        return cache;
+    }
 
-public class DilbazStemFilterFactory {
-    static FsmMorphologicalAnalyzer fsm = new FsmMorphologicalAnalyzer();
+    @Override
+    public TokenStream create(TokenStream input) {
+        return new DilbazStemFilter(input, cache, newDisambiguator(), window);
+    }
 
     public static void main(String[] args) {
 
@@ -19,14 +134,15 @@ public class DilbazStemFilterFactory {
 
         a = a.toLowerCase(Locale.forLanguageTag("tr"));
 
+        final MorphologicalDisambiguator disambiguator = new LongestRootFirstDisambiguation();
         for (String s : a.split("\\s+")) {
-            parse(s);
+            parse(s, disambiguator);
         }
     }
 
-    static void parse(String word) {
+    static void parse(String word, MorphologicalDisambiguator morphologicalDisambiguator) {
 
-        FsmParseList fsmParseList = fsm.morphologicalAnalysis(word);
+        FsmParseList fsmParseList = DilbazHolder.analyze(word);
 
         System.out.println("found " + fsmParseList.size() + " many solutions for " + word);
 
@@ -38,7 +154,6 @@ public class DilbazStemFilterFactory {
         for (int i = 0; i < fsmParseList.size(); i++) {
             System.out.println(fsmParseList.getFsmParse(i).transitionList());
         }
-        MorphologicalDisambiguator morphologicalDisambiguator = new LongestRootFirstDisambiguation();
 
         List<FsmParse> dis = morphologicalDisambiguator.disambiguate(new FsmParseList[]{fsmParseList});
         System.out.println("====disambiguator found " + dis.size() + " many candidates");
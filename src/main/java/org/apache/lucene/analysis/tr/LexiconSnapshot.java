@@ -0,0 +1,99 @@
+package org.apache.lucene.analysis.tr;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import zemberek.morphology.lexicon.DictionarySerializer;
+import zemberek.morphology.lexicon.RootLexicon;
+
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+
+/**
+ * Binary snapshots of lexicons built from dictionary lines, in the format Zemberek3 uses for its own
+ * default lexicon. A snapshot is named after a SHA-256 digest of the lines it was built from, so a
+ * changed dictionary simply misses and is parsed again; loading a snapshot skips parsing the text.
+ * <p>
+ * Failures never prevent a lexicon from being built: an unreadable snapshot falls back to the text,
+ * and a snapshot that cannot be written is only logged.
+ */
+final class LexiconSnapshot {
+
+    private static final Logger log = LoggerFactory.getLogger(LexiconSnapshot.class);
+
+    private LexiconSnapshot() {
+    }
+
+    static Path path(Path dir, List<String> lines) {
+        return dir.resolve("lexicon-" + MorphologyRegistry.digest("snapshot=1;", lines) + ".bin");
+    }
+
+    /**
+     * @return the lexicon of the given dictionary lines, read from its snapshot in the given directory if
+     * there is one, otherwise parsed from the lines and saved there
+     */
+    static RootLexicon load(Path dir, List<String> lines) {
+        final Path snapshot = path(dir, lines);
+
+        if (Files.isRegularFile(snapshot)) {
+            try {
+                final long start = System.nanoTime();
+                final RootLexicon lexicon = DictionarySerializer.load(snapshot.toFile());
+                log.info("loaded lexicon of {} items from {} in {} ms", lexicon.size(), snapshot,
+                        (System.nanoTime() - start) / 1_000_000);
+                return lexicon;
+            } catch (IOException | RuntimeException e) {
+                log.warn("cannot read lexicon snapshot " + snapshot + ", parsing dictionaries instead", e);
+            }
+        }
+
+        final RootLexicon lexicon = RootLexicon.fromLines(lines.toArray(new String[0]));
+        save(lexicon, dir, snapshot);
+        return lexicon;
+    }
+
+    private static void save(RootLexicon lexicon, Path dir, Path snapshot) {
+        Path tmp = null;
+        try {
+            Files.createDirectories(dir);
+            // concurrent writers each write their own file, and the last rename wins
+            tmp = Files.createTempFile(dir, "lexicon-", ".tmp");
+            DictionarySerializer.save(lexicon, tmp);
+            try {
+                Files.move(tmp, snapshot, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmp, snapshot, StandardCopyOption.REPLACE_EXISTING);
+            }
+            log.info("saved lexicon snapshot {}", snapshot);
+        } catch (IOException | RuntimeException e) {
+            log.warn("cannot save lexicon snapshot " + snapshot, e);
+            if (tmp != null) {
+                try {
+                    Files.deleteIfExists(tmp);
+                } catch (IOException ignored) {
+                    // nothing left to do
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,274 @@
+package org.apache.lucene.analysis.tr;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.ref.WeakReference;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+/**
+ * Process-wide registry of Zemberek3 morphologies, so that every field type and core configured with the
+ * same dictionaries and options shares a single lexicon and analyzer.
+ * <p>
+ * Sharing happens at two levels. The immutable {@link MyTurkishMorphology.Core}, that is the lexicon,
+ * morphotactics and analyzer, is keyed by {@link #key(List, boolean, boolean)}: a SHA-256 digest of the
+ * dictionary lines with the informal and ignoreDiacritics options. A {@link MyTurkishMorphology} wraps a core
+ * with its caches and counters, and is keyed by {@link #key(String, int, int, int)}, which adds the cache
+ * sizes; configurations that differ only in their caches get their own morphology over the same core.
+ * <p>
+ * The first caller of {@link #acquire} for a key builds the instance; concurrent callers with the same key
+ * wait for it instead of building their own; {@link #acquireAsync} builds it on an executor and returns at
+ * once. The registry holds instances weakly: an instance is dropped once no factory or filter refers to it
+ * any more, without anyone having to close anything, since Solr does not close token filter factories when
+ * a core is reloaded.
+ */
+public final class MorphologyRegistry {
+
+    private static final Logger log = LoggerFactory.getLogger(MorphologyRegistry.class);
+
+    private static final Registry<MyTurkishMorphology.Core> cores = new Registry<>("core");
+    private static final Registry<MyTurkishMorphology> morphologies = new Registry<>("morphology");
+
+    private MorphologyRegistry() {
+    }
+
+    /**
+     * @param dictionaryLines lines of the dictionaries, or null for the default lexicon of Zemberek3
+     * @return hex encoded SHA-256 digest identifying a {@link MyTurkishMorphology.Core}
+     */
+    public static String key(List<String> dictionaryLines, boolean informal, boolean ignoreDiacritics) {
+        return digest("informal=" + informal + ";ignoreDiacritics=" + ignoreDiacritics + ";", dictionaryLines);
+    }
+
+    /**
+     * @param coreKey key of the core, see {@link #key(List, boolean, boolean)}
+     * @return key identifying a {@link MyTurkishMorphology} over that core with the given caches
+     */
+    public static String key(String coreKey, int cacheSize, int staticCacheSize, int unknownCacheSize) {
+        return coreKey + ";cacheSize=" + cacheSize + ";staticCacheSize=" + staticCacheSize +
+                ";unknownCacheSize=" + unknownCacheSize;
+    }
+
+    /**
+     * @return hex encoded SHA-256 digest of the header followed by the lines, or by a marker if lines is null
+     */
+    static String digest(String header, List<String> lines) {
+        final MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+
+        digest.update(header.getBytes(StandardCharsets.UTF_8));
+
+        if (lines == null) {
+            digest.update("lexicon=default".getBytes(StandardCharsets.UTF_8));
+        } else {
+            digest.update("lexicon=lines\n".getBytes(StandardCharsets.UTF_8));
+            for (String line : lines) {
+                digest.update(line.getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) '\n');
+            }
+        }
+
+        final StringBuilder hex = new StringBuilder(64);
+        for (byte b : digest.digest()) {
+            hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return hex.toString();
+    }
+
+    /**
+     * Returns the core registered under the given key, building it with the given loader in the calling
+     * thread if there is none yet.
+     */
+    public static MyTurkishMorphology.Core core(String key, Supplier<MyTurkishMorphology.Core> loader) {
+        final Handle<MyTurkishMorphology.Core> handle = cores.register(key);
+        if (handle.owner) cores.build(handle, loader);
+        return handle.get();
+    }
+
+    /**
+     * Returns the morphology registered under the given key, building it with the given loader in the
+     * calling thread if there is none yet.
+     *
+     * @throws RuntimeException thrown by the loader, here or in any thread waiting for the same key
+     */
+    public static Handle<MyTurkishMorphology> acquire(String key, Supplier<MyTurkishMorphology> loader) {
+        final Handle<MyTurkishMorphology> handle = morphologies.register(key);
+        if (handle.owner) {
+            morphologies.build(handle, loader);
+            handle.get();
+        }
+        return handle;
+    }
+
+    /**
+     * Returns the morphology registered under the given key without waiting for it. If there is none yet,
+     * it is built with the given loader on the given executor.
+     */
+    public static Handle<MyTurkishMorphology> acquireAsync(String key, Supplier<MyTurkishMorphology> loader, Executor executor) {
+        final Handle<MyTurkishMorphology> handle = morphologies.register(key);
+        if (handle.owner) {
+            try {
+                executor.execute(() -> morphologies.build(handle, loader));
+            } catch (RuntimeException e) {
+                morphologies.fail(handle, e);
+                throw e;
+            }
+        }
+        return handle;
+    }
+
+    /**
+     * @return number of live morphologies
+     */
+    public static int size() {
+        return morphologies.size();
+    }
+
+    /**
+     * @return number of live cores
+     */
+    public static int coreCount() {
+        return cores.size();
+    }
+
+    /**
+     * Instances by key: a strongly held future while an instance is being built, a weak reference after.
+     */
+    private static final class Registry<T> {
+
+        private final String name;
+        private final Map<String, Entry<T>> entries = new HashMap<>();
+
+        Registry(String name) {
+            this.name = name;
+        }
+
+        Handle<T> register(String key) {
+            synchronized (entries) {
+                final Entry<T> entry = entries.get(key);
+                if (entry != null) {
+                    if (entry.pending != null) return new Handle<>(key, entry, entry.pending, false);
+                    final T instance = entry.instance.get();
+                    if (instance != null)
+                        return new Handle<>(key, entry, CompletableFuture.completedFuture(instance), false);
+                }
+
+                entries.values().removeIf(e -> e.pending == null && e.instance.get() == null);
+
+                final Entry<T> created = new Entry<>();
+                entries.put(key, created);
+                return new Handle<>(key, created, created.pending, true);
+            }
+        }
+
+        void build(Handle<T> handle, Supplier<? extends T> loader) {
+            final T instance;
+            try {
+                instance = loader.get();
+            } catch (RuntimeException | Error e) {
+                fail(handle, e);
+                return;
+            }
+            synchronized (entries) {
+                handle.entry.instance = new WeakReference<>(instance);
+                handle.entry.pending = null;
+            }
+            handle.future.complete(instance);
+            log.info("registered {} {}", name, handle.key);
+        }
+
+        void fail(Handle<T> handle, Throwable e) {
+            // let a later acquire try again
+            synchronized (entries) {
+                if (entries.get(handle.key) == handle.entry) entries.remove(handle.key);
+            }
+            handle.future.completeExceptionally(e);
+        }
+
+        int size() {
+            synchronized (entries) {
+                entries.values().removeIf(e -> e.pending == null && e.instance.get() == null);
+                return entries.size();
+            }
+        }
+    }
+
+    private static final class Entry<T> {
+        CompletableFuture<T> pending = new CompletableFuture<>();
+        WeakReference<T> instance;
+    }
+
+    /**
+     * A reference to a shared instance, which stays registered as long as the instance is reachable.
+     */
+    public static final class Handle<T> {
+
+        private final String key;
+        private final Entry<T> entry;
+        private final CompletableFuture<T> future;
+        private final boolean owner;
+
+        private Handle(String key, Entry<T> entry, CompletableFuture<T> future, boolean owner) {
+            this.key = key;
+            this.entry = entry;
+            this.future = future;
+            this.owner = owner;
+        }
+
+        public String key() {
+            return key;
+        }
+
+        /**
+         * @return the shared instance, completed once it is built
+         */
+        public Future<T> future() {
+            return future;
+        }
+
+        /**
+         * @return the shared instance, waiting for it to be built if necessary
+         */
+        public T get() {
+            try {
+                return future.join();
+            } catch (CompletionException e) {
+                final Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+                if (cause instanceof Error) throw (Error) cause;
+                throw e;
+            }
+        }
+    }
+}
@@ -1,6 +1,10 @@
 package org.apache.lucene.analysis.tr;
 
 import com.google.common.base.Stopwatch;
+import org.apache.lucene.analysis.tr.util.BoundedConcurrentMap;
+import org.apache.lucene.analysis.tr.util.ConcurrentLRUCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import zemberek.core.logging.Log;
 import zemberek.core.text.TextUtil;
 import zemberek.core.turkish.PrimaryPos;
@@ -14,45 +18,189 @@ import zemberek.morphology.lexicon.RootLexicon;
 import zemberek.morphology.morphotactics.InformalTurkishMorphotactics;
 import zemberek.morphology.morphotactics.TurkishMorphotactics;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * A variant of {@link zemberek.morphology.TurkishMorphology} simplified for a pre-tokenized input.
+ * <p>
+ * Words that reach the analyzer are counted, along with those that turn out to be unknown or empty after
+ * normalization; the words analyzed to fill the static cache are not. With DEBUG enabled for this class, an
+ * unknown word is logged at most once a second.
  */
 public final class MyTurkishMorphology {
 
+    /**
+     * Default capacity of the dynamic analysis cache.
+     */
+    public static final int DEFAULT_CACHE_SIZE = 10000;
+
+    /**
+     * Default capacity of the cache of words without any analysis.
+     */
+    public static final int DEFAULT_UNKNOWN_CACHE_SIZE = 10000;
+
+    /**
+     * Most frequent Turkish words, ordered by frequency, shipped with Zemberek3.
+     */
+    private static final String MOST_USED_WORDS_FILE = "/tr/first-10K";
+
+    private final Core core;
     private final RootLexicon lexicon;
     private final RuleBasedAnalyzer analyzer;
     private final TurkishMorphotactics morphotactics;
 
+    private final ConcurrentLRUCache<String, WordAnalysis> cache;
+    private final BoundedConcurrentMap<String, WordAnalysis> unknownCache;
+    private final Map<String, WordAnalysis> staticCache;
 
-    private MyTurkishMorphology(MyTurkishMorphology.Builder builder) {
+    private static final Logger log = LoggerFactory.getLogger(MyTurkishMorphology.class);
+    private static final long UNKNOWN_LOG_INTERVAL = TimeUnit.SECONDS.toNanos(1);
+
+    private final LongAdder analyzed = new LongAdder();
+    private final LongAdder unknown = new LongAdder();
+    private final LongAdder empty = new LongAdder();
+    private final AtomicLong nextUnknownLog = new AtomicLong(System.nanoTime());
+
+    // keeps the default instance reachable, hence registered, for the life of the process
+    private static volatile MyTurkishMorphology defaultInstance;
+
+    /**
+     * The immutable part of a morphology: lexicon, morphotactics and analyzer. It is expensive to build and
+     * safe to share, so morphologies that differ only in their caches share one, see {@link MorphologyRegistry}.
+     */
+    public static final class Core {
 
-        this.lexicon = builder.lexicon;
-        if (lexicon.isEmpty()) {
-            Log.warn("TurkishMorphology class is being instantiated with empty root lexicon.");
+        private final RootLexicon lexicon;
+        private final TurkishMorphotactics morphotactics;
+        private final RuleBasedAnalyzer analyzer;
+
+        public Core(RootLexicon lexicon, boolean informalAnalysis, boolean ignoreDiacriticsInAnalysis) {
+            this.lexicon = lexicon;
+            if (lexicon.isEmpty()) {
+                Log.warn("TurkishMorphology class is being instantiated with empty root lexicon.");
+            }
+
+            this.morphotactics = informalAnalysis ?
+                    new InformalTurkishMorphotactics(this.lexicon) : new TurkishMorphotactics(this.lexicon);
+
+            this.analyzer = ignoreDiacriticsInAnalysis ?
+                    RuleBasedAnalyzer.ignoreDiacriticsInstance(morphotactics) :
+                    RuleBasedAnalyzer.instance(morphotactics);
+        }
+
+        public RootLexicon getLexicon() {
+            return lexicon;
         }
+    }
+
+    private MyTurkishMorphology(MyTurkishMorphology.Builder builder) {
 
-        this.morphotactics = builder.informalAnalysis ?
-                new InformalTurkishMorphotactics(this.lexicon) : new TurkishMorphotactics(this.lexicon);
+        this.core = builder.core != null ? builder.core :
+                new Core(builder.lexicon, builder.informalAnalysis, builder.ignoreDiacriticsInAnalysis);
+        this.lexicon = core.lexicon;
+        this.morphotactics = core.morphotactics;
+        this.analyzer = core.analyzer;
 
-        this.analyzer = builder.ignoreDiacriticsInAnalysis ?
-                RuleBasedAnalyzer.ignoreDiacriticsInstance(morphotactics) :
-                RuleBasedAnalyzer.instance(morphotactics);
+        this.cache = builder.cacheSize > 0 ? new ConcurrentLRUCache<>(builder.cacheSize) : null;
+        this.unknownCache = builder.unknownCacheSize > 0 ? new BoundedConcurrentMap<>(builder.unknownCacheSize) : null;
+        this.staticCache = builder.staticCacheSize > 0 ? createStaticCache(builder.staticCacheSize) : Collections.emptyMap();
 
+        // the warm-up of the static cache is not traffic, it must not skew the rates
+        analyzed.reset();
+        unknown.reset();
+        empty.reset();
     }
 
+    /**
+     * Pre-analyzes the most frequent words so that they are never evicted from the cache.
+     */
+    private Map<String, WordAnalysis> createStaticCache(int size) {
 
-    public static MyTurkishMorphology createWithDefaults() {
         Stopwatch sw = Stopwatch.createStarted();
-        MyTurkishMorphology instance = new MyTurkishMorphology.Builder().setLexicon(RootLexicon.getDefault()).build();
-        Log.info("Initialized in %d ms.", sw.elapsed(TimeUnit.MILLISECONDS));
+        Map<String, WordAnalysis> map = new HashMap<>(size * 2);
+
+        try (InputStream stream = MyTurkishMorphology.class.getResourceAsStream(MOST_USED_WORDS_FILE)) {
+
+            if (stream == null) {
+                Log.warn("Cannot find %s, static analysis cache is disabled.", MOST_USED_WORDS_FILE);
+                return Collections.emptyMap();
+            }
+
+            BufferedReader reader = new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8));
+            String line;
+            while (map.size() < size && (line = reader.readLine()) != null) {
+                line = line.trim();
+                if (line.isEmpty()) continue;
+                // lines may carry a frequency count after the word
+                String word = line.split("\\s+")[0];
+                map.put(word, analyzeWithoutCache(word));
+            }
+        } catch (IOException e) {
+            Log.warn("Cannot read %s, static analysis cache is disabled: %s", MOST_USED_WORDS_FILE, e.getMessage());
+            return Collections.emptyMap();
+        }
+
+        Log.info("Static analysis cache with %d words initialized in %d ms.", map.size(), sw.elapsed(TimeUnit.MILLISECONDS));
+        return Collections.unmodifiableMap(map);
+    }
+
+
+    /**
+     * @return the instance with the default lexicon and options, shared through {@link MorphologyRegistry}
+     * with every factory of the same configuration
+     */
+    public static MyTurkishMorphology createWithDefaults() {
+        MyTurkishMorphology instance = defaultInstance;
+        if (instance != null) return instance;
+
+        final String coreKey = MorphologyRegistry.key(null, false, false);
+        final String key = MorphologyRegistry.key(coreKey, DEFAULT_CACHE_SIZE, 0, DEFAULT_UNKNOWN_CACHE_SIZE);
+        instance = MorphologyRegistry.acquire(key, () -> {
+            Stopwatch sw = Stopwatch.createStarted();
+            final Core core = MorphologyRegistry.core(coreKey, () -> new Core(RootLexicon.getDefault(), false, false));
+            MyTurkishMorphology morphology = new MyTurkishMorphology.Builder().setCore(core).build();
+            Log.info("Initialized in %d ms.", sw.elapsed(TimeUnit.MILLISECONDS));
+            return morphology;
+        }).get();
+        defaultInstance = instance;
         return instance;
     }
 
+    /**
+     * @param dictionaryLines lines of the dictionaries, or null for the default lexicon of Zemberek3
+     * @return the instance with the given lexicon and options and the default caches, shared through
+     * {@link MorphologyRegistry} with every factory of the same configuration
+     */
+    public static MyTurkishMorphology createShared(List<String> dictionaryLines, boolean informal, boolean ignoreDiacritics) {
+        if (dictionaryLines == null && !informal && !ignoreDiacritics)
+            return createWithDefaults();
+
+        final String coreKey = MorphologyRegistry.key(dictionaryLines, informal, ignoreDiacritics);
+        final String key = MorphologyRegistry.key(coreKey, DEFAULT_CACHE_SIZE, 0, DEFAULT_UNKNOWN_CACHE_SIZE);
+        return MorphologyRegistry.acquire(key, () -> {
+            final Core core = MorphologyRegistry.core(coreKey, () -> new Core(dictionaryLines == null
+                    ? RootLexicon.getDefault()
+                    : RootLexicon.fromLines(dictionaryLines.toArray(new String[0])), informal, ignoreDiacritics));
+            return new MyTurkishMorphology.Builder().setCore(core).build();
+        }).get();
+    }
+
     public static zemberek.morphology.TurkishMorphology create(RootLexicon lexicon) {
         return new zemberek.morphology.TurkishMorphology.Builder().setLexicon(lexicon).build();
     }
@@ -61,14 +209,163 @@ public final class MyTurkishMorphology {
         return morphotactics;
     }
 
+    /**
+     * Analyses the word, consulting the static cache of frequent words first and the bounded
+     * dynamic cache next. The instance is meant to be shared, so the caches serve all threads.
+     * <p>
+     * Words without any analysis are kept in a separate cache, so that they neither evict analyzable
+     * words from the dynamic cache nor run through every morphotactic path again when they repeat.
+     */
     public WordAnalysis analyze(String word) {
-        return analyzeWithoutCache(word);
+
+        WordAnalysis analysis = staticCache.get(word);
+        if (analysis != null) return analysis;
+
+        // lock-free, and ahead of the dynamic cache so that unknown words neither wait on its locks nor count as its misses
+        if (unknownCache != null) {
+            analysis = unknownCache.get(word);
+            if (analysis != null) return analysis;
+        }
+
+        if (cache != null) {
+            analysis = cache.get(word);
+            if (analysis != null) return analysis;
+        }
+
+        analysis = analyzeWithoutCache(word);
+
+        if (unknownCache != null && analysis.analysisCount() == 0)
+            unknownCache.put(word, analysis);
+        else if (cache != null)
+            cache.put(word, analysis);
+
+        return analysis;
+    }
+
+    /**
+     * Analyses the distinct words of the collection in parallel on the common pool.
+     *
+     * @see #analyzeStream(Stream, Function, ForkJoinPool)
+     */
+    public Map<String, WordAnalysis> analyzeAll(Collection<String> words) {
+        return analyzeStream(words.stream(), Function.identity(), ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Analyses the distinct words of the collection in parallel on the given pool.
+     *
+     * @see #analyzeStream(Stream, Function, ForkJoinPool)
+     */
+    public Map<String, WordAnalysis> analyzeAll(Collection<String> words, ForkJoinPool pool) {
+        return analyzeStream(words.stream(), Function.identity(), pool);
+    }
+
+    /**
+     * Analyses the distinct words of the stream in parallel on the given pool.
+     *
+     * @see #analyzeStream(Stream, Function, ForkJoinPool)
+     */
+    public Map<String, WordAnalysis> analyzeStream(Stream<String> words, ForkJoinPool pool) {
+        return analyzeStream(words, Function.identity(), pool);
+    }
+
+    /**
+     * Analyses the distinct words of the stream in parallel on the given pool, for offline work such as
+     * building stem tables. Each word is analyzed once however often it occurs. Bulk analysis bypasses the
+     * dynamic caches, so that a large vocabulary does not flush the words cached for online analysis.
+     *
+     * @param mapper keeps only what the caller needs of each analysis, must not return null
+     * @return the mapped analysis of every distinct word
+     */
+    public <T> Map<String, T> analyzeStream(Stream<String> words, Function<WordAnalysis, ? extends T> mapper, ForkJoinPool pool) {
+        // a parallel stream runs its tasks in the pool of the task that starts it
+        return pool.submit(() -> words.parallel().unordered().distinct()
+                .collect(Collectors.<String, String, T>toConcurrentMap(word -> word, word -> mapper.apply(analyzeBulk(word)))))
+                .join();
+    }
+
+    private WordAnalysis analyzeBulk(String word) {
+        final WordAnalysis analysis = staticCache.get(word);
+        return analysis != null ? analysis : analyzeWithoutCache(word);
+    }
+
+    /**
+     * @return the dynamic analysis cache, or null if caching is disabled
+     */
+    public ConcurrentLRUCache<String, WordAnalysis> getCache() {
+        return cache;
+    }
+
+    /**
+     * @return the cache of words without any analysis, or null if it is disabled
+     */
+    public BoundedConcurrentMap<String, WordAnalysis> getUnknownCache() {
+        return unknownCache;
+    }
+
+    /**
+     * @return number of words analyzed, that is, not answered from a cache
+     */
+    public long analyzedCount() {
+        return analyzed.sum();
+    }
+
+    /**
+     * @return number of analyzed words without any analysis
+     */
+    public long unknownCount() {
+        return unknown.sum();
+    }
+
+    /**
+     * @return number of analyzed words that were empty after normalization
+     */
+    public long emptyCount() {
+        return empty.sum();
+    }
+
+    /**
+     * @return ratio of analyzed words without any analysis, or zero if no word was analyzed yet
+     */
+    public double unknownRate() {
+        final long total = analyzed.sum();
+        return total == 0 ? 0.0 : (double) unknown.sum() / total;
+    }
+
+    /**
+     * @return ratio of analyzed words that were empty after normalization, or zero if no word was analyzed yet
+     */
+    public double emptyRate() {
+        final long total = analyzed.sum();
+        return total == 0 ? 0.0 : (double) empty.sum() / total;
+    }
+
+    private void unknown(String word) {
+        unknown.increment();
+        if (log.isDebugEnabled()) {
+            final long now = System.nanoTime();
+            final long next = nextUnknownLog.get();
+            // one of the racing threads wins the slot, the others skip it
+            if (now - next >= 0 && nextUnknownLog.compareAndSet(next, now + UNKNOWN_LOG_INTERVAL))
+                log.debug("unknown word: {} ({} of {} analyzed words unknown)", word, unknown.sum(), analyzed.sum());
+        }
+    }
+
+    public int getStaticCacheSize() {
+        return staticCache.size();
     }
 
     public RootLexicon getLexicon() {
         return lexicon;
     }
 
+    /**
+     * @return the lexicon, morphotactics and analyzer, possibly shared with other morphologies
+     */
+    public Core getCore() {
+        return core;
+    }
+
     /**
      * Normalizes the input word and analyses it. If word cannot be parsed following occurs: - if
      * input is a number, system tries to parse it by creating a number DictionaryEntry. - if input
@@ -100,10 +397,11 @@ public final class MyTurkishMorphology {
      */
     List<SingleAnalysis> analyzeList(String word) {
 
+        analyzed.increment();
         String s = normalizeForAnalysis(word);
 
         if (s.length() == 0) {
-            System.out.println("empty " + word);
+            empty.increment();
             return Collections.emptyList();
         }
 
@@ -116,12 +414,8 @@ public final class MyTurkishMorphology {
             result = analyzer.analyze(s);
         }
 
-        if (result.size() == 0) {
-            System.out.println("unknown word: " + word);
-            return Collections.emptyList();
-        }
-
-        if (result.size() == 1 && result.get(0).getDictionaryItem().isUnknown()) {
+        if (result.size() == 0 || (result.size() == 1 && result.get(0).getDictionaryItem().isUnknown())) {
+            unknown(word);
             return Collections.emptyList();
         }
 
@@ -130,10 +424,11 @@ public final class MyTurkishMorphology {
 
     private WordAnalysis analyzeWithoutCache(String word) {
 
+        analyzed.increment();
         String s = normalizeForAnalysis(word);
 
         if (s.length() == 0) {
-            System.out.println("empty " + word);
+            empty.increment();
             return WordAnalysis.EMPTY_INPUT_RESULT;
         }
 
@@ -146,12 +441,8 @@ public final class MyTurkishMorphology {
             result = analyzer.analyze(s);
         }
 
-        if (result.size() == 0) {
-            System.out.println("unknown word: " + word);
-            result = Collections.emptyList();
-        }
-
-        if (result.size() == 1 && result.get(0).getDictionaryItem().isUnknown()) {
+        if (result.size() == 0 || (result.size() == 1 && result.get(0).getDictionaryItem().isUnknown())) {
+            unknown(word);
             result = Collections.emptyList();
         }
 
@@ -200,10 +491,15 @@ public final class MyTurkishMorphology {
     public static class Builder {
 
         RootLexicon lexicon = new RootLexicon();
+        Core core = null;
 
         boolean informalAnalysis = false;
         boolean ignoreDiacriticsInAnalysis = false;
 
+        int cacheSize = DEFAULT_CACHE_SIZE;
+        int staticCacheSize = 0;
+        int unknownCacheSize = DEFAULT_UNKNOWN_CACHE_SIZE;
+
         public MyTurkishMorphology.Builder setLexicon(RootLexicon lexicon) {
             this.lexicon = lexicon;
             return this;
@@ -214,6 +510,15 @@ public final class MyTurkishMorphology {
             return this;
         }
 
+        /**
+         * Builds the morphology over an existing core, whose lexicon and options take precedence over the
+         * ones set on this builder; only the caches are configured here.
+         */
+        public MyTurkishMorphology.Builder setCore(Core core) {
+            this.core = core;
+            return this;
+        }
+
         public MyTurkishMorphology.Builder useInformalAnalysis() {
             this.informalAnalysis = true;
             return this;
@@ -224,6 +529,43 @@ public final class MyTurkishMorphology {
             return this;
         }
 
+        /**
+         * @param cacheSize maximum number of analyses kept in the dynamic cache, zero disables it
+         */
+        public MyTurkishMorphology.Builder setCacheSize(int cacheSize) {
+            if (cacheSize < 0)
+                throw new IllegalArgumentException("cacheSize must be non-negative: " + cacheSize);
+            this.cacheSize = cacheSize;
+            return this;
+        }
+
+        /**
+         * @param staticCacheSize number of most frequent words analyzed up front, zero disables it
+         */
+        public MyTurkishMorphology.Builder setStaticCacheSize(int staticCacheSize) {
+            if (staticCacheSize < 0)
+                throw new IllegalArgumentException("staticCacheSize must be non-negative: " + staticCacheSize);
+            this.staticCacheSize = staticCacheSize;
+            return this;
+        }
+
+        /**
+         * @param unknownCacheSize maximum number of words without any analysis remembered, zero disables it
+         */
+        public MyTurkishMorphology.Builder setUnknownCacheSize(int unknownCacheSize) {
+            if (unknownCacheSize < 0)
+                throw new IllegalArgumentException("unknownCacheSize must be non-negative: " + unknownCacheSize);
+            this.unknownCacheSize = unknownCacheSize;
+            return this;
+        }
+
+        public MyTurkishMorphology.Builder disableCache() {
+            this.cacheSize = 0;
+            this.staticCacheSize = 0;
+            this.unknownCacheSize = 0;
+            return this;
+        }
+
         public MyTurkishMorphology build() {
             return new MyTurkishMorphology(this);
         }
@@ -0,0 +1,203 @@
+package org.apache.lucene.analysis.tr;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import org.apache.lucene.analysis.tr.util.ConcurrentLRUCache;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread-safe cache of the stems of words, shared by the filters of a factory so that repeated words are
+ * analyzed once. A word that has no stem is cached with itself as the stem.
+ * <p>
+ * Factories pick an implementation with {@code cache="lru|static|none"} and {@code cacheSize}, see
+ * {@link #create(String, int)}; each factory owns its cache, hence its hit and miss counts.
+ */
+public interface StemCache {
+
+    int DEFAULT_SIZE = 10000;
+
+    /**
+     * @return the cached stem, or null if the word is absent
+     */
+    String get(String word);
+
+    void put(String word, String stem);
+
+    int size();
+
+    long hitCount();
+
+    long missCount();
+
+    /**
+     * @return ratio of lookups that were answered from the cache, or zero if there were no lookups yet
+     */
+    default double hitRate() {
+        final long h = hitCount();
+        final long total = h + missCount();
+        return total == 0 ? 0.0 : (double) h / total;
+    }
+
+    /**
+     * @param type {@code lru} for a bounded cache evicting the least recently used words, {@code static} for an
+     *             unbounded cache that never evicts, suited to closed vocabularies, or {@code none}
+     * @param size maximum number of words of an {@code lru} cache, ignored otherwise
+     */
+    static StemCache create(String type, int size) {
+        switch (type) {
+            case "lru":
+                return new Lru(size);
+            case "static":
+                return new Static();
+            case "none":
+                return new None();
+            default:
+                throw new IllegalArgumentException("unknown cache " + type);
+        }
+    }
+
+    /**
+     * Bounded cache with least-recently-used eviction.
+     */
+    final class Lru implements StemCache {
+
+        private final ConcurrentLRUCache<String, String> cache;
+
+        public Lru(int size) {
+            if (size < 1)
+                throw new IllegalArgumentException("cacheSize must be positive: " + size);
+            this.cache = new ConcurrentLRUCache<>(size);
+        }
+
+        @Override
+        public String get(String word) {
+            return cache.get(word);
+        }
+
+        @Override
+        public void put(String word, String stem) {
+            cache.put(word, stem);
+        }
+
+        @Override
+        public int size() {
+            return cache.size();
+        }
+
+        @Override
+        public long hitCount() {
+            return cache.hitCount();
+        }
+
+        @Override
+        public long missCount() {
+            return cache.missCount();
+        }
+
+        @Override
+        public String toString() {
+            return "StemCache.Lru{size=" + size() + ", maxSize=" + cache.maxSize() + ", hits=" + hitCount() + ", misses=" + missCount() + "}";
+        }
+    }
+
+    /**
+     * Unbounded cache that keeps every word it is given.
+     */
+    final class Static implements StemCache {
+
+        private final Map<String, String> cache = new ConcurrentHashMap<>();
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+
+        @Override
+        public String get(String word) {
+            final String stem = cache.get(word);
+            if (stem == null)
+                misses.increment();
+            else
+                hits.increment();
+            return stem;
+        }
+
+        @Override
+        public void put(String word, String stem) {
+            cache.put(word, stem);
+        }
+
+        @Override
+        public int size() {
+            return cache.size();
+        }
+
+        @Override
+        public long hitCount() {
+            return hits.sum();
+        }
+
+        @Override
+        public long missCount() {
+            return misses.sum();
+        }
+
+        @Override
+        public String toString() {
+            return "StemCache.Static{size=" + size() + ", hits=" + hitCount() + ", misses=" + missCount() + "}";
+        }
+    }
+
+    /**
+     * Caches nothing; every lookup is a miss.
+     */
+    final class None implements StemCache {
+
+        private final LongAdder misses = new LongAdder();
+
+        @Override
+        public String get(String word) {
+            misses.increment();
+            return null;
+        }
+
+        @Override
+        public void put(String word, String stem) {
+        }
+
+        @Override
+        public int size() {
+            return 0;
+        }
+
+        @Override
+        public long hitCount() {
+            return 0;
+        }
+
+        @Override
+        public long missCount() {
+            return misses.sum();
+        }
+
+        @Override
+        public String toString() {
+            return "StemCache.None{misses=" + missCount() + "}";
+        }
+    }
+}
@@ -0,0 +1,221 @@
+package org.apache.lucene.analysis.tr;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import org.apache.lucene.analysis.miscellaneous.StemmerOverrideFilter;
+import org.apache.lucene.analysis.tr.util.Reaper;
+import org.apache.lucene.codecs.CodecUtil;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.store.IOContext;
+import org.apache.lucene.store.IndexInput;
+import org.apache.lucene.store.IndexOutput;
+import org.apache.lucene.store.MMapDirectory;
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.IntsRefBuilder;
+import org.apache.lucene.util.fst.ByteSequenceOutputs;
+import org.apache.lucene.util.fst.FST;
+import org.apache.lucene.util.fst.FSTCompiler;
+import org.apache.lucene.util.fst.OffHeapFSTStore;
+import org.apache.lucene.util.fst.Util;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.lang.ref.WeakReference;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A stem table compiled into an FST file, for vocabularies too large to keep on the heap. The file is
+ * memory-mapped and the FST is read in place, so its pages live in the OS page cache and are shared by every
+ * filter and core of the node that opens the same file.
+ * <p>
+ * The file is written from a tab separated word and stem table by running this class:
+ * <pre>
+ * java -cp ... org.apache.lucene.analysis.tr.StemTable stems.tsv stems.fst [ignoreCase]
+ * </pre>
+ * Lookups go through {@link StemmerOverrideFilter}, which walks the FST over the term buffer directly.
+ */
+public final class StemTable {
+
+    private static final String CODEC = "TurkishStemTable";
+    private static final int VERSION = 0;
+
+    private static final Map<String, WeakReference<StemTable>> tables = new HashMap<>();
+
+    private final StemmerOverrideFilter.StemmerOverrideMap map;
+    private final boolean ignoreCase;
+
+    private StemTable(IndexInput in) throws IOException {
+        // a torn or corrupt file fails here rather than as garbage stems at index time
+        CodecUtil.checksumEntireFile(in);
+        CodecUtil.checkHeader(in, CODEC, VERSION, VERSION);
+        this.ignoreCase = in.readByte() != 0;
+        final FST<BytesRef> fst = new FST<>(in, in, ByteSequenceOutputs.getSingleton(), new OffHeapFSTStore());
+        this.map = new StemmerOverrideFilter.StemmerOverrideMap(fst, ignoreCase);
+        // the FST reads through the input for as long as a filter holds the map, which may outlive the table
+        Reaper.register(map, () -> {
+            try {
+                in.close();
+            } catch (IOException ignored) {
+                // nothing is left to read from it
+            }
+        });
+    }
+
+    /**
+     * Returns the table of the given file, mapping it only if no live table maps the same version of it. The
+     * checksum of the whole file is verified once, when it is mapped.
+     * <p>
+     * Tables are not unmapped explicitly, since a filter may still be reading one; the input is closed and the
+     * mapping released once no filter refers to the map of the table any more. A rewritten file is mapped anew.
+     */
+    public static StemTable open(Path file) throws IOException {
+        final Path path = file.toRealPath();
+        final String key = path + ";" + Files.size(path) + ";" + Files.getLastModifiedTime(path).toMillis();
+
+        synchronized (tables) {
+            final WeakReference<StemTable> reference = tables.get(key);
+            StemTable table = reference == null ? null : reference.get();
+            if (table != null) return table;
+
+            tables.values().removeIf(r -> r.get() == null);
+
+            try (MMapDirectory directory = new MMapDirectory(path.getParent())) {
+                directory.setUseUnmap(false);
+                final IndexInput in = directory.openInput(path.getFileName().toString(), IOContext.DEFAULT);
+                try {
+                    table = new StemTable(in);
+                } catch (IOException | RuntimeException e) {
+                    in.close();
+                    throw e;
+                }
+            }
+            tables.put(key, new WeakReference<>(table));
+            return table;
+        }
+    }
+
+    public StemmerOverrideFilter.StemmerOverrideMap map() {
+        return map;
+    }
+
+    public boolean ignoreCase() {
+        return ignoreCase;
+    }
+
+    /**
+     * Compiles a tab separated word and stem table into the given file. The first stem of a word wins, and
+     * blank lines or lines starting with {@code #} are skipped.
+     *
+     * @return number of words written
+     */
+    public static int compile(Path tsv, Path file, boolean ignoreCase) throws IOException {
+
+        final List<String[]> entries = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(tsv, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#")) continue;
+                final int tab = line.indexOf('\t');
+                if (tab <= 0 || tab == line.length() - 1)
+                    throw new IllegalArgumentException("expected a word and its stem separated by a tab in " + tsv + ": " + line);
+                final String word = line.substring(0, tab);
+                entries.add(new String[]{ignoreCase ? lowerCase(word) : word, line.substring(tab + 1).trim()});
+            }
+        }
+
+        // the FST takes its inputs in code point order; a stable sort keeps the first stem of a word first
+        Collections.sort(entries, (a, b) -> compareCodePoints(a[0], b[0]));
+
+        final FSTCompiler<BytesRef> compiler = new FSTCompiler<>(FST.INPUT_TYPE.BYTE4, ByteSequenceOutputs.getSingleton());
+        final IntsRefBuilder scratch = new IntsRefBuilder();
+        String previous = null;
+        int count = 0;
+        for (String[] entry : entries) {
+            if (entry[0].equals(previous)) continue;
+            compiler.add(Util.toUTF32(entry[0], scratch), new BytesRef(entry[1]));
+            previous = entry[0];
+            count++;
+        }
+        if (count == 0)
+            throw new IllegalArgumentException("no words in " + tsv);
+        final FST<BytesRef> fst = compiler.compile();
+
+        final Path dir = file.toAbsolutePath().getParent();
+        Files.createDirectories(dir);
+        try (Directory directory = FSDirectory.open(dir)) {
+            // write aside and rename, so that readers of an older version keep a complete file
+            String tmp;
+            try (IndexOutput out = directory.createTempOutput(file.getFileName().toString(), "tmp", IOContext.DEFAULT)) {
+                tmp = out.getName();
+                CodecUtil.writeHeader(out, CODEC, VERSION);
+                out.writeByte((byte) (ignoreCase ? 1 : 0));
+                fst.save(out, out);
+                CodecUtil.writeFooter(out);
+            }
+            directory.sync(Collections.singleton(tmp));
+            directory.rename(tmp, file.getFileName().toString());
+            directory.syncMetaData();
+        }
+        return count;
+    }
+
+    private static String lowerCase(String word) {
+        final StringBuilder builder = new StringBuilder(word.length());
+        for (int i = 0; i < word.length(); ) {
+            final int codePoint = word.codePointAt(i);
+            builder.appendCodePoint(Character.toLowerCase(codePoint));
+            i += Character.charCount(codePoint);
+        }
+        return builder.toString();
+    }
+
+    private static int compareCodePoints(String a, String b) {
+        int i = 0;
+        int j = 0;
+        while (i < a.length() && j < b.length()) {
+            final int x = a.codePointAt(i);
+            final int y = b.codePointAt(j);
+            if (x != y) return Integer.compare(x, y);
+            i += Character.charCount(x);
+            j += Character.charCount(y);
+        }
+        return Integer.compare(a.length() - i, b.length() - j);
+    }
+
+    public static void main(String[] args) throws IOException {
+
+        if (args.length < 2 || args.length > 3) {
+            System.err.println("usage: StemTable <stems.tsv> <stems.fst> [ignoreCase]");
+            System.exit(1);
+        }
+
+        final long start = System.nanoTime();
+        final int count = compile(Paths.get(args[0]), Paths.get(args[1]), args.length > 2 && Boolean.parseBoolean(args[2]));
+        System.out.println(count + " words written to " + args[1] + " in " + (System.nanoTime() - start) / 1_000_000 + " ms");
+    }
+}
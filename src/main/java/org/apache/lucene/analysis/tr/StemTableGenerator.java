@@ -0,0 +1,95 @@
+package org.apache.lucene.analysis.tr;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+
+/**
+ * Stems a word list with Zemberek3 and writes the result as a table of tab separated word and stem lines,
+ * sorted by word. Words without a stem map to themselves, so the table answers for the whole vocabulary.
+ * <pre>
+ * java -cp ... org.apache.lucene.analysis.tr.StemTableGenerator words.txt stems.tsv [threads] [strategy]
+ * </pre>
+ * Each line of the word list holds one word, optionally followed by whitespace and anything else, such as
+ * a frequency. Words should already be in the form the analysis chain gives them, typically lowercased by
+ * {@link TurkishLowerCaseFilter}.
+ */
+public final class StemTableGenerator {
+
+    private StemTableGenerator() {
+    }
+
+    /**
+     * @return stem of every distinct word, the word itself if it has none
+     */
+    public static Map<String, String> stems(MyTurkishMorphology morphology, Zemberek3StemFilter.Stemmer stemmer,
+                                            Stream<String> words, ForkJoinPool pool) {
+        return morphology.analyzeStream(words, analysis -> {
+            final String stem = analysis.analysisCount() == 0 ? null : stemmer.stem(analysis);
+            return stem == null ? analysis.getInput() : stem;
+        }, pool);
+    }
+
+    public static void main(String[] args) throws IOException {
+
+        if (args.length < 2 || args.length > 4) {
+            System.err.println("usage: StemTableGenerator <words> <stems.tsv> [threads] [maxLength|minLength]");
+            System.exit(1);
+        }
+
+        final Path input = Paths.get(args[0]);
+        final Path output = Paths.get(args[1]);
+        final int threads = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+        final String strategy = args.length > 3 ? args[3] : "maxLength";
+
+        final MyTurkishMorphology morphology = MyTurkishMorphology.createWithDefaults();
+        final Zemberek3StemFilter.Stemmer stemmer = new Zemberek3StemFilter.Stemmer("minMorpheme", "lemmas", strategy);
+
+        final long start = System.nanoTime();
+        final ForkJoinPool pool = new ForkJoinPool(threads);
+        final Map<String, String> stems;
+        try (Stream<String> lines = Files.lines(input, StandardCharsets.UTF_8)) {
+            stems = stems(morphology, stemmer, lines.map(String::trim).filter(line -> !line.isEmpty())
+                    .map(line -> line.split("\\s+", 2)[0]), pool);
+        } finally {
+            pool.shutdown();
+        }
+
+        try (BufferedWriter writer = Files.newBufferedWriter(output, StandardCharsets.UTF_8)) {
+            for (Map.Entry<String, String> entry : new TreeMap<>(stems).entrySet()) {
+                writer.write(entry.getKey());
+                writer.write('\t');
+                writer.write(entry.getValue());
+                writer.write('\n');
+            }
+        }
+
+        System.out.println(stems.size() + " words stemmed with " + threads + " threads in " +
+                (System.nanoTime() - start) / 1_000_000 + " ms, " +
+                String.format("%.1f%%", 100 * morphology.unknownRate()) + " unknown");
+    }
+}
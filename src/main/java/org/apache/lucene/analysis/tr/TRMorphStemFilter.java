@@ -21,20 +21,23 @@ import org.apache.lucene.analysis.TokenFilter;
 import org.apache.lucene.analysis.TokenStream;
 import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
 import org.apache.lucene.analysis.tokenattributes.KeywordAttribute;
-import org.apache.lucene.analysis.tr.util.Piper;
+import org.apache.lucene.analysis.tr.util.FomaLookup;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.BufferedReader;
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.TreeSet;
 
 /**
  * Stemmer based on <a href="https://github.com/coltekin/TRmorph">TRmorph</a>
+ * <p>
+ * With a batch size greater than one, the filter reads ahead up to that many tokens, sends the
+ * distinct words among them to flookup in a single round trip, and then replays the buffered
+ * tokens with their stems applied. Words found in the {@link StemCache} are not sent at all.
  */
 public final class TRMorphStemFilter extends TokenFilter {
 
@@ -44,17 +47,49 @@ public final class TRMorphStemFilter extends TokenFilter {
     private final KeywordAttribute keywordAttribute = addAttribute(KeywordAttribute.class);
 
     private final String aggregation;
-    private final String lookup_fst;
+    private final FomaLookup flookup;
+    private final int batchSize;
+    private final StemCache cache;
+
+    // read-ahead window, used only when batchSize > 1
+    private final List<State> states = new ArrayList<>();
+    private final List<String> words = new ArrayList<>();
+    private final Map<String, String> stems = new HashMap<>();
+    private int replay = 0;
+    private boolean exhausted = false;
+
+    /**
+     * @param flookup applies TRmorph's stem.fst, usually shared by all filters of a factory
+     */
+    public TRMorphStemFilter(TokenStream input, FomaLookup flookup, String aggregation) {
+        this(input, flookup, aggregation, 1);
+    }
+
+    /**
+     * @param batchSize maximum number of tokens read ahead and looked up in one round trip
+     */
+    public TRMorphStemFilter(TokenStream input, FomaLookup flookup, String aggregation, int batchSize) {
+        this(input, flookup, aggregation, batchSize, new StemCache.None());
+    }
 
-    public TRMorphStemFilter(TokenStream input, String lookup_fst, String aggregation) {
+    /**
+     * @param cache stems of words already looked up, usually shared by all filters of a factory
+     */
+    public TRMorphStemFilter(TokenStream input, FomaLookup flookup, String aggregation, int batchSize, StemCache cache) {
         super(input);
-        this.lookup_fst = lookup_fst;
+        if (batchSize < 1)
+            throw new IllegalArgumentException("batchSize must be positive: " + batchSize);
+        this.flookup = flookup;
         this.aggregation = aggregation;
+        this.batchSize = batchSize;
+        this.cache = cache;
     }
 
     @Override
     public boolean incrementToken() throws IOException {
 
+        if (batchSize > 1) return incrementBatch();
+
         if (!input.incrementToken()) return false;
         if (keywordAttribute.isKeyword()) return true;
 
@@ -62,7 +97,11 @@ public final class TRMorphStemFilter extends TokenFilter {
          *  copied from {@link org.apache.lucene.analysis.br.BrazilianStemFilter#incrementToken}
          */
         final String term = termAttribute.toString();
-        final String s = stem(term);
+        String s = cache.get(term);
+        if (s == null) {
+            s = stem(term, parse(term, flookup.lookup(term)));
+            cache.put(term, s);
+        }
         // If not stemmed, don't waste the time adjusting the token.
         if ((s != null) && !s.equals(term))
             termAttribute.setEmpty().append(s);
@@ -70,15 +109,83 @@ public final class TRMorphStemFilter extends TokenFilter {
         return true;
     }
 
-    private String stem(String word) throws IOException {
+    private boolean incrementBatch() throws IOException {
+
+        if (replay == states.size()) {
+            if (!fill()) return false;
+        }
+
+        restoreState(states.get(replay));
+        final String term = words.get(replay);
+        replay++;
+
+        if (term == null) return true;
+
+        final String s = stems.get(term);
+        // If not stemmed, don't waste the time adjusting the token.
+        if ((s != null) && !s.equals(term))
+            termAttribute.setEmpty().append(s);
+
+        return true;
+    }
+
+    /**
+     * Buffers the next window of tokens and stems the distinct words among them.
+     *
+     * @return false if the input has no more tokens
+     */
+    private boolean fill() throws IOException {
+
+        states.clear();
+        words.clear();
+        stems.clear();
+        replay = 0;
+
+        final List<String> distinct = new ArrayList<>();
+
+        while (!exhausted && states.size() < batchSize) {
+            if (!input.incrementToken()) {
+                exhausted = true;
+                break;
+            }
+            states.add(captureState());
+
+            if (keywordAttribute.isKeyword()) {
+                words.add(null);
+                continue;
+            }
+
+            final String term = termAttribute.toString();
+            words.add(term);
+            if (!stems.containsKey(term)) {
+                final String cached = cache.get(term);
+                stems.put(term, cached);
+                if (cached == null) distinct.add(term);
+            }
+        }
 
-        List<String> parses = parse(word);
+        if (states.isEmpty()) return false;
+
+        if (!distinct.isEmpty()) {
+            final List<List<String>> answers = flookup.lookup(distinct);
+            for (int i = 0; i < distinct.size(); i++) {
+                final String term = distinct.get(i);
+                final String s = stem(term, parse(term, answers.get(i)));
+                stems.put(term, s);
+                cache.put(term, s);
+            }
+        }
+
+        return true;
+    }
+
+    private String stem(String word, List<String> parses) {
 
         TreeSet<String> set = new TreeSet<>();
 
         for (String parse : parses) {
             String[] parts = parse.split("\\s+");
-            if (parts.length < 1) {
+            if (parts.length < 2) {
                 log.warn("unexpected line " + parse);
                 continue;
             }
@@ -99,6 +206,8 @@ public final class TRMorphStemFilter extends TokenFilter {
             set.add(stem.substring(0, i));
         }
 
+        if (set.isEmpty()) return word;
+
         if (set.size() == 1) return set.first();
 
         switch (aggregation) {
@@ -111,32 +220,24 @@ public final class TRMorphStemFilter extends TokenFilter {
         }
     }
 
-    private List<String> parse(String word) throws IOException {
+    private List<String> parse(String word, List<String> lines) {
         List<String> list = new ArrayList<>();
-        java.lang.Runtime rt = java.lang.Runtime.getRuntime();
-        java.lang.Process p2 = rt.exec(lookup_fst);
-        Piper pipe = new Piper(new ByteArrayInputStream(word.getBytes(StandardCharsets.UTF_8)), p2.getOutputStream());
-        new Thread(pipe).start();
-        try {
-            p2.waitFor();
-        } catch (InterruptedException ie) {
-            return list;
-        }
-
-        try (BufferedReader r = new BufferedReader(new java.io.InputStreamReader(p2.getInputStream()))) {
-            String s;
-            while ((s = r.readLine()) != null) {
-
-                s = s.trim();
-                if (s.length() == 0) continue;
-
-                if (s.startsWith(word))
-                    list.add(s);
-                else
-                    log.warn("unexpected line from word " + word + " " + s);
-            }
+        for (String s : lines) {
+            if (s.startsWith(word))
+                list.add(s);
+            else
+                log.warn("unexpected line from word " + word + " " + s);
         }
         return list;
+    }
 
+    @Override
+    public void reset() throws IOException {
+        super.reset();
+        states.clear();
+        words.clear();
+        stems.clear();
+        replay = 0;
+        exhausted = false;
     }
 }
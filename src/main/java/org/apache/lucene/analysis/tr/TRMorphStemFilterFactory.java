@@ -19,11 +19,16 @@ package org.apache.lucene.analysis.tr;
 
 import org.apache.lucene.analysis.TokenFilterFactory;
 import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.tr.util.FlookupPool;
+import org.apache.lucene.analysis.tr.util.FomaLookup;
+import org.apache.lucene.analysis.tr.util.FomaTransducer;
 import org.apache.lucene.util.ResourceLoader;
 import org.apache.lucene.util.ResourceLoaderAware;
 
+import java.io.Closeable;
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Paths;
 import java.util.Map;
 
 /**
@@ -34,15 +39,20 @@ import java.util.Map;
  * &lt;tokenizer class="solr.StandardTokenizerFactory"/&gt;
  * &lt;filter class="solr.ApostropheFilterFactory"/&gt;
  * &lt;filter class="solr.TurkishLowerCaseFilterFactory"/&gt;
- * &lt;filter class="org.apache.lucene.analysis.tr.TRMorphStemFilterFactory" lookup="/Applications/foma/flookup" fst="/Volumes/datadisk/Desktop/TRmorph-master/stem.fst"/&gt;
+ * &lt;filter class="org.apache.lucene.analysis.tr.TRMorphStemFilterFactory" lookup="/Applications/foma/flookup" fst="/Volumes/datadisk/Desktop/TRmorph-master/stem.fst" processes="1" batchSize="64" cache="lru" cacheSize="10000"/&gt;
  * &lt;/analyzer&gt;
  * &lt;/fieldType&gt;</pre>
+ * With {@code mode="inprocess"} the fst is loaded into the JVM and no {@code lookup} executable is needed;
+ * {@code lookup}, {@code processes}, {@code timeout} and {@code batchSize} are rejected in that mode.
+ * Stems are kept in a {@link StemCache} shared by the filters of the factory, so that only words not seen
+ * recently reach flookup.
  */
-public class TRMorphStemFilterFactory extends TokenFilterFactory implements ResourceLoaderAware {
+public class TRMorphStemFilterFactory extends TokenFilterFactory implements ResourceLoaderAware, Closeable {
 
     private final String strategy;
-    private final String lookup_fst;
-
+    private final FomaLookup flookup;
+    private final int batchSize;
+    private final StemCache cache;
 
     public TRMorphStemFilterFactory(Map<String, String> args) {
         super(args);
@@ -51,9 +61,23 @@ public class TRMorphStemFilterFactory extends TokenFilterFactory implements Reso
         final String fst;
 
         strategy = get(args, "strategy", "max");
-        lookup = require(args, "lookup");
-        fst = require(args, "fst");
+        final String mode = get(args, "mode", "process");
 
+        // the transducer answers in the calling thread, there are no processes to share nor round trips to save
+        if ("inprocess".equals(mode)) {
+            for (String name : new String[]{"lookup", "processes", "timeout", "batchSize"}) {
+                if (args.containsKey(name))
+                    throw new IllegalArgumentException(name + " is not supported with mode=inprocess");
+            }
+        }
+
+        lookup = "inprocess".equals(mode) ? null : require(args, "lookup");
+        fst = require(args, "fst");
+        final int processes = getInt(args, "processes", 1);
+        final int timeout = getInt(args, "timeout", (int) FlookupPool.DEFAULT_TIMEOUT_MILLIS);
+        batchSize = getInt(args, "batchSize", 1);
+        final String cacheType = get(args, "cache", "lru");
+        final int cacheSize = getInt(args, "cacheSize", StemCache.DEFAULT_SIZE);
 
         if (!args.isEmpty())
             throw new IllegalArgumentException("Unknown parameters: " + args);
@@ -61,6 +85,20 @@ public class TRMorphStemFilterFactory extends TokenFilterFactory implements Reso
         if (!"min".equals(strategy) && !"max".equals(strategy))
             throw new IllegalArgumentException("unknown strategy " + strategy);
 
+        if (!"process".equals(mode) && !"inprocess".equals(mode))
+            throw new IllegalArgumentException("unknown mode " + mode);
+
+        if (processes < 1)
+            throw new IllegalArgumentException("processes must be positive: " + processes);
+
+        if (timeout < 1)
+            throw new IllegalArgumentException("timeout must be positive: " + timeout);
+
+        if (batchSize < 1)
+            throw new IllegalArgumentException("batchSize must be positive: " + batchSize);
+
+        cache = StemCache.create(cacheType, cacheSize);
+
         if (lookup != null) {
             File f = new File(lookup);
             if (!f.isAbsolute()) {
@@ -81,7 +119,15 @@ public class TRMorphStemFilterFactory extends TokenFilterFactory implements Reso
             }
         }
 
-        lookup_fst = lookup + " " + fst;
+        if ("inprocess".equals(mode)) {
+            try {
+                flookup = FomaTransducer.load(Paths.get(fst));
+            } catch (IOException e) {
+                throw new IllegalArgumentException("Cannot load fst: " + fst, e);
+            }
+        } else {
+            flookup = new FlookupPool(lookup, fst, processes, timeout);
+        }
     }
 
     @Override
@@ -90,6 +136,21 @@ public class TRMorphStemFilterFactory extends TokenFilterFactory implements Reso
 
     @Override
     public TokenStream create(TokenStream input) {
-        return new TRMorphStemFilter(input, lookup_fst, strategy);
+        return new TRMorphStemFilter(input, flookup, strategy, batchSize, cache);
+    }
+
+    /**
+     * @return the cache of stems shared by the filters of this factory
+     */
+    public StemCache getCache() {
+        return cache;
+    }
+
+    /**
+     * Terminates the flookup processes started by this factory, if any.
+     */
+    @Override
+    public void close() {
+        flookup.close();
     }
 }
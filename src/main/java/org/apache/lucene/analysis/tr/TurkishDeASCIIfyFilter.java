@@ -17,12 +17,13 @@ package org.apache.lucene.analysis.tr;
  * limitations under the License.
  */
 
-import org.apache.lucene.analysis.CharArrayMap;
 import org.apache.lucene.analysis.TokenFilter;
 import org.apache.lucene.analysis.TokenStream;
 import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
 import org.apache.lucene.analysis.tokenattributes.PositionIncrementAttribute;
 import org.apache.lucene.analysis.tokenattributes.TypeAttribute;
+import org.apache.lucene.analysis.tr.util.CharArrayCache;
+import org.apache.lucene.analysis.tr.util.PatternMatcher;
 import org.apache.lucene.analysis.tr.util.PatternTableFactory;
 
 import java.io.IOException;
@@ -39,33 +40,45 @@ public final class TurkishDeASCIIfyFilter extends TokenFilter {
     private final CharTermAttribute termAtt = addAttribute(CharTermAttribute.class);
     private final PositionIncrementAttribute posIncAttr = addAttribute(PositionIncrementAttribute.class);
     private final boolean preserveOriginal;
+    private final CharArrayCache cache;
     private State state;
 
+    private static final int turkish_context_size = 10;
+
+    /**
+     * Scratch buffer for the context around the cursor, reused for every character of every token
+     */
+    private final char[] context = new char[1 + (2 * turkish_context_size)];
+
     public TurkishDeASCIIfyFilter(TokenStream input, boolean preserveOriginal) {
+        this(input, preserveOriginal, null);
+    }
+
+    /**
+     * @param cache ascii token to deasciified token cache, possibly shared with other filters; null disables caching
+     */
+    public TurkishDeASCIIfyFilter(TokenStream input, boolean preserveOriginal, CharArrayCache cache) {
         super(input);
         this.preserveOriginal = preserveOriginal;
+        this.cache = cache;
     }
 
     /**
      * Determine if char at cursor needs correction.
      */
-    private static boolean turkish_need_correction(char c, int point, char[] turkish_string, int length) {
-
-        final Character tr;
+    private static boolean turkish_need_correction(char c, int point, char[] turkish_string, int length, char[] context) {
 
-        if (turkish_asciify_table.containsKey(c))
-            tr = turkish_asciify_table.get(c);
-        else
-            tr = c;
+        final char asciified = lookup(turkish_asciify_chars, c);
+        final char tr = asciified == 0 ? c : asciified;
 
-        CharArrayMap<Integer> pl = PatternTableFactory.getMap(Character.toLowerCase(tr));
+        PatternMatcher pl = PatternTableFactory.getMatcher(Character.toLowerCase(tr));
 
         boolean m = false;
         if (pl != null) {
-            m = turkish_match_pattern(pl, point, turkish_string, length);
+            m = turkish_match_pattern(pl, point, turkish_string, length, context);
         }
 
-        if (tr.equals('I')) {
+        if (tr == 'I') {
             if (c == tr) {
                 return !m;
             } else {
@@ -80,9 +93,11 @@ public final class TurkishDeASCIIfyFilter extends TokenFilter {
         }
     }
 
-    private static char[] turkish_get_context(int size, int point, char[] turkish_string, int length) {
+    /**
+     * Fills the given buffer of length {@code 1 + 2 * size} with the context around the cursor.
+     */
+    private static void turkish_get_context(int size, int point, char[] turkish_string, int length, char[] s) {
 
-        char[] s = new char[1 + (2 * size)];
         Arrays.fill(s, ' ');
 
         s[size] = 'X';
@@ -97,9 +112,9 @@ public final class TurkishDeASCIIfyFilter extends TokenFilter {
         while (i < s.length && !space && index < length) {
             current_char = turkish_string[index];
 
-            Character x = turkish_downcase_asciify_table.get(current_char);
+            char x = lookup(turkish_downcase_asciify_chars, current_char);
 
-            if (x == null) {
+            if (x == 0) {
                 i++;
                 space = true;
 
@@ -111,21 +126,6 @@ public final class TurkishDeASCIIfyFilter extends TokenFilter {
             index++;
         }
 
-/*
-        System.out.println("before ");
-        System.out.println(s.length);
-        System.out.println(s);
-        System.out.println(i);
-*/
-
-        System.arraycopy(s, 0, s, 0, i);
-
-/*
-        System.out.println("after ");
-
-        System.out.println(s);
-        System.out.println(s.length);
-*/
         index = point;
         i = size - 1;
         space = false;
@@ -134,9 +134,9 @@ public final class TurkishDeASCIIfyFilter extends TokenFilter {
 
         while (i >= 0 && index >= 0) {
             current_char = turkish_string[index];
-            Character x = turkish_upcase_accents_table.get(current_char);
+            char x = lookup(turkish_upcase_accents_chars, current_char);
 
-            if (x == null) {
+            if (x == 0) {
                 if (!space) {
                     i--;
                     space = true;
@@ -148,36 +148,16 @@ public final class TurkishDeASCIIfyFilter extends TokenFilter {
             }
             index--;
         }
-
-        //System.out.println("return");
-        //System.out.println(s);
-        return s;
     }
 
-    private static boolean turkish_match_pattern(CharArrayMap<Integer> dlist, int point, char[] turkish_string, int length) {
-        final int turkish_context_size = 10;
-        int rank = dlist.size() * 2;
-        char[] str = turkish_get_context(turkish_context_size, point, turkish_string, length);
-
-        //System.out.println("length = " + str.length);
-        int start = 0;
-        int end;
-        int _len = str.length;
+    private static boolean turkish_match_pattern(PatternMatcher dlist, int point, char[] turkish_string, int length, char[] context) {
+        turkish_get_context(turkish_context_size, point, turkish_string, length, context);
 
-        while (start <= turkish_context_size) {
-            end = turkish_context_size + 1;
-            while (end <= _len) {
-
-                Integer r = dlist.get(str, start, end - start);
-
-                if (r != null && Math.abs(r) < Math.abs(rank)) {
-                    rank = r;
-                }
-                end++;
-            }
-            start++;
-        }
-        return rank > 0;
+        // every pattern contains the X at the center of the context, so each occurrence of a pattern
+        // spans the cursor. When no pattern occurs, match returns 0, which counts as positive like the
+        // default rank of the original algorithm.
+        int rank = dlist.match(context, 0, context.length);
+        return rank >= 0;
     }
 
     /**
@@ -185,11 +165,14 @@ public final class TurkishDeASCIIfyFilter extends TokenFilter {
      */
     public static String convert_to_turkish(char[] turkish_string) {
 
+        final char[] context = new char[1 + (2 * turkish_context_size)];
+
         for (int i = 0; i < turkish_string.length; i++) {
             char c = turkish_string[i];
-            if (turkish_toggle_accent_table.containsKey(c)) {
-                if (turkish_need_correction(c, i, turkish_string, turkish_string.length)) {
-                    turkish_string[i] = turkish_toggle_accent_table.get(c);
+            char toggled = lookup(turkish_toggle_accent_chars, c);
+            if (toggled != 0) {
+                if (turkish_need_correction(c, i, turkish_string, turkish_string.length, context)) {
+                    turkish_string[i] = toggled;
                 }
             }
         }
@@ -206,8 +189,9 @@ public final class TurkishDeASCIIfyFilter extends TokenFilter {
 
         for (int i = 0; i < length; i++) {
             char c = turkish_string[i];
-            if (turkish_toggle_accent_table.containsKey(c)) {
-                if (turkish_need_correction(c, i, turkish_string, length)) {
+            char toggled = lookup(turkish_toggle_accent_chars, c);
+            if (toggled != 0) {
+                if (turkish_need_correction(c, i, turkish_string, length, context)) {
                     /** works only once **/
                     if (flag && preserveOriginal) {
                         // we are about to make a change
@@ -215,7 +199,7 @@ public final class TurkishDeASCIIfyFilter extends TokenFilter {
                         state = captureState();
                         flag = false;
                     }
-                    turkish_string[i] = turkish_toggle_accent_table.get(c);
+                    turkish_string[i] = toggled;
                     returnValue = true;
                 }
             }
@@ -237,14 +221,44 @@ public final class TurkishDeASCIIfyFilter extends TokenFilter {
         if (input.incrementToken()) {
             final char[] buffer = termAtt.buffer();
             final int length = termAtt.length();
-            if (convert_to_turkish(buffer, length))
+            if (cache == null) {
+                if (convert_to_turkish(buffer, length))
+                    typeAtt.setType(Zemberek2DeASCIIfyFilterFactory.DEASCII_TOKEN_TYPE);
+                return true;
+            }
+
+            final char[] cached = cache.get(buffer, 0, length);
+            if (cached != null) {
+                // deasciification never changes the length of a token
+                if (!equals(buffer, cached, length)) {
+                    if (preserveOriginal)
+                        state = captureState();
+                    System.arraycopy(cached, 0, buffer, 0, length);
+                    typeAtt.setType(Zemberek2DeASCIIfyFilterFactory.DEASCII_TOKEN_TYPE);
+                }
+                return true;
+            }
+
+            final char[] original = Arrays.copyOf(buffer, length);
+            if (convert_to_turkish(buffer, length)) {
                 typeAtt.setType(Zemberek2DeASCIIfyFilterFactory.DEASCII_TOKEN_TYPE);
+                cache.put(original, 0, length, Arrays.copyOf(buffer, length));
+            } else {
+                cache.put(original, 0, length, original);
+            }
             return true;
         } else {
             return false;
         }
     }
 
+    private static boolean equals(char[] buffer, char[] value, int length) {
+        for (int i = 0; i < length; i++) {
+            if (buffer[i] != value[i]) return false;
+        }
+        return true;
+    }
+
     @Override
     public void reset() throws IOException {
         super.reset();
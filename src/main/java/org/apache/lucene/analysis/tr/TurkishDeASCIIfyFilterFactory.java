@@ -19,6 +19,7 @@ package org.apache.lucene.analysis.tr;
 
 import org.apache.lucene.analysis.TokenStream;
 import org.apache.lucene.analysis.TokenFilterFactory;
+import org.apache.lucene.analysis.tr.util.CharArrayCache;
 
 import java.util.Map;
 
@@ -36,14 +37,17 @@ import java.util.Map;
  * &lt;tokenizer class="solr.StandardTokenizerFactory"/&gt;
  * &lt;filter class="solr.ApostropheFilterFactory"/&gt;
  * &lt;filter class="solr.TurkishLowerCaseFilterFactory"/&gt;
- * &lt;filter class="solr.TurkishDeASCIIfyFilterFactory" preserveOriginal="true"/&gt;
+ * &lt;filter class="solr.TurkishDeASCIIfyFilterFactory" preserveOriginal="true" cacheSize="16384"/&gt;
  * &lt;filter class="solr.Zemberek3StemFilterFactory"/&gt;
  * &lt;/analyzer&gt;
  * &lt;/fieldType&gt;</pre>
+ * With a positive {@code cacheSize}, filters created by one factory share a cache of deasciified tokens of
+ * that many slots. The cache is off by default.
  */
 public class TurkishDeASCIIfyFilterFactory extends TokenFilterFactory {
 
     private final boolean preserveOriginal;
+    private final CharArrayCache cache;
 
     /**
      * Creates a new TurkishDeASCIIfyFilterFactory
@@ -51,13 +55,24 @@ public class TurkishDeASCIIfyFilterFactory extends TokenFilterFactory {
     public TurkishDeASCIIfyFilterFactory(Map<String, String> args) {
         super(args);
         preserveOriginal = getBoolean(args, "preserveOriginal", false);
+        final int cacheSize = getInt(args, "cacheSize", 0);
         if (!args.isEmpty()) {
             throw new IllegalArgumentException("Unknown parameters: " + args);
         }
+        if (cacheSize < 0)
+            throw new IllegalArgumentException("cacheSize must be non-negative: " + cacheSize);
+        cache = cacheSize > 0 ? new CharArrayCache(cacheSize) : null;
+    }
+
+    /**
+     * @return cache of deasciified tokens shared by the filters of this factory, or null if disabled
+     */
+    public CharArrayCache getCache() {
+        return cache;
     }
 
     @Override
     public TurkishDeASCIIfyFilter create(TokenStream input) {
-        return new TurkishDeASCIIfyFilter(input, preserveOriginal);
+        return new TurkishDeASCIIfyFilter(input, preserveOriginal, cache);
     }
 }
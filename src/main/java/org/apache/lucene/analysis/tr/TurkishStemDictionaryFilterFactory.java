@@ -0,0 +1,149 @@
+package org.apache.lucene.analysis.tr;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import org.apache.lucene.analysis.TokenFilterFactory;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.miscellaneous.StemmerOverrideFilter;
+import org.apache.lucene.util.ResourceLoader;
+import org.apache.lucene.util.ResourceLoaderAware;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Factory for a stemmer that looks words up in a precomputed table of stems, typically written offline by
+ * {@link StemTableGenerator}, instead of analyzing them.
+ * <pre class="prettyprint">
+ * &lt;fieldType name="text_tr_stems" class="solr.TextField" positionIncrementGap="100"&gt;
+ * &lt;analyzer&gt;
+ * &lt;tokenizer class="solr.StandardTokenizerFactory"/&gt;
+ * &lt;filter class="solr.ApostropheFilterFactory"/&gt;
+ * &lt;filter class="solr.TurkishLowerCaseFilterFactory"/&gt;
+ * &lt;filter class="org.apache.lucene.analysis.tr.TurkishStemDictionaryFilterFactory" dictionary="stems.tsv" fallback="true" strategy="maxLength"/&gt;
+ * &lt;/analyzer&gt;
+ * &lt;/fieldType&gt;</pre>
+ * Each line of the {@code dictionary} files holds a word and its stem separated by a tab. The table is
+ * compiled into an FST and looked up with {@link StemmerOverrideFilter}, directly against the term buffer,
+ * which marks stemmed words as keywords. With {@code fallback="true"}, words missing from the table are
+ * stemmed by {@link Zemberek3StemFilter}, with the lexicon of the {@code fallbackDictionary} files, or the
+ * default one, and the {@code informal} and {@code ignoreDiacritics} options. The morphology is shared with
+ * the other factories of the same configuration through {@link MorphologyRegistry}.
+ * <p>
+ * For very large vocabularies, {@code table} names a file compiled by {@link StemTable} instead. It is
+ * memory-mapped rather than loaded on the heap, and shared by all factories that open it. Whether it ignores
+ * case is decided when it is compiled, so {@code ignoreCase} is rejected with {@code table}.
+ */
+public class TurkishStemDictionaryFilterFactory extends TokenFilterFactory implements ResourceLoaderAware {
+
+    private final String dictionaryFiles;
+    private final String tableFile;
+    private final boolean ignoreCase;
+    private final boolean fallback;
+    private final String fallbackDictionaryFiles;
+    private final boolean informal;
+    private final boolean ignoreDiacritics;
+    private final Zemberek3StemFilter.Stemmer stemmer;
+
+    private StemmerOverrideFilter.StemmerOverrideMap dictionary;
+    private StemTable table;
+    private MyTurkishMorphology morphology;
+
+    public TurkishStemDictionaryFilterFactory(Map<String, String> args) {
+        super(args);
+        dictionaryFiles = get(args, "dictionary");
+        tableFile = get(args, "table");
+        final String ignoreCaseArg = get(args, "ignoreCase");
+        ignoreCase = Boolean.parseBoolean(ignoreCaseArg);
+        fallback = getBoolean(args, "fallback", false);
+        fallbackDictionaryFiles = get(args, "fallbackDictionary");
+        final String informalArg = get(args, "informal");
+        final String ignoreDiacriticsArg = get(args, "ignoreDiacritics");
+        informal = Boolean.parseBoolean(informalArg);
+        ignoreDiacritics = Boolean.parseBoolean(ignoreDiacriticsArg);
+        final String strategy = get(args, "strategy", "maxLength");
+
+        if (!args.isEmpty()) {
+            throw new IllegalArgumentException("Unknown parameters: " + args);
+        }
+
+        if ((dictionaryFiles == null) == (tableFile == null))
+            throw new IllegalArgumentException("exactly one of dictionary and table is required");
+
+        // a compiled table is case folded or not when it is compiled, see StemTable
+        if (tableFile != null && ignoreCaseArg != null)
+            throw new IllegalArgumentException("ignoreCase is not supported with table, it is set when the table is compiled");
+
+        if (!fallback && (fallbackDictionaryFiles != null || informalArg != null || ignoreDiacriticsArg != null))
+            throw new IllegalArgumentException("fallbackDictionary, informal and ignoreDiacritics require fallback=true");
+
+        stemmer = new Zemberek3StemFilter.Stemmer("minMorpheme", "lemmas", strategy);
+    }
+
+    @Override
+    public void inform(ResourceLoader loader) throws IOException {
+
+        if (tableFile != null) {
+            table = StemTable.open(Paths.get(tableFile));
+            dictionary = table.map();
+        } else {
+            dictionary = build(loader);
+        }
+
+        if (fallback)
+            morphology = MyTurkishMorphology.createShared(fallbackDictionary(loader), informal, ignoreDiacritics);
+    }
+
+    /**
+     * @return lines of the fallback dictionaries, or null for the default lexicon of Zemberek3
+     */
+    private List<String> fallbackDictionary(ResourceLoader loader) throws IOException {
+        if (fallbackDictionaryFiles == null || fallbackDictionaryFiles.trim().isEmpty())
+            return null;
+        final List<String> lines = new ArrayList<>();
+        for (String file : splitFileNames(fallbackDictionaryFiles))
+            lines.addAll(getLines(loader, file.trim()));
+        return lines.isEmpty() ? null : lines;
+    }
+
+    private StemmerOverrideFilter.StemmerOverrideMap build(ResourceLoader loader) throws IOException {
+
+        final StemmerOverrideFilter.Builder builder = new StemmerOverrideFilter.Builder(ignoreCase);
+
+        for (String file : splitFileNames(dictionaryFiles)) {
+            for (String line : getLines(loader, file.trim())) {
+                final int tab = line.indexOf('\t');
+                if (tab <= 0 || tab == line.length() - 1)
+                    throw new IllegalArgumentException("expected a word and its stem separated by a tab in " + file + ": " + line);
+                // the first stem of a word wins
+                builder.add(line.substring(0, tab), line.substring(tab + 1).trim());
+            }
+        }
+
+        return builder.build();
+    }
+
+    @Override
+    public TokenStream create(TokenStream input) {
+        final TokenStream stream = new StemmerOverrideFilter(input, dictionary);
+        return fallback ? new Zemberek3StemFilter(stream, morphology, stemmer, null) : stream;
+    }
+}
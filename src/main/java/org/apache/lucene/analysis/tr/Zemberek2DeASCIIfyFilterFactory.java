@@ -3,7 +3,6 @@ package org.apache.lucene.analysis.tr;
 import net.zemberek.erisim.Zemberek;
 import net.zemberek.islemler.KelimeKokFrekansKiyaslayici;
 import net.zemberek.islemler.cozumleme.CozumlemeSeviyesi;
-import net.zemberek.tr.yapi.TurkiyeTurkcesi;
 import net.zemberek.yapi.Kelime;
 import org.apache.lucene.analysis.TokenFilter;
 import org.apache.lucene.analysis.TokenStream;
@@ -13,36 +12,101 @@ import org.apache.lucene.analysis.tokenattributes.KeywordAttribute;
 import org.apache.lucene.analysis.tokenattributes.PositionIncrementAttribute;
 import org.apache.lucene.analysis.tokenattributes.TypeAttribute;
 import org.apache.lucene.analysis.TokenFilterFactory;
+import org.apache.lucene.analysis.tr.util.ConcurrentLRUCache;
 import org.apache.lucene.util.AttributeSource;
 
 import java.io.IOException;
 import java.io.StringReader;
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Factory for {@link Zemberek2DeASCIIfyFilter}.
+ * <pre class="prettyprint">
+ * &lt;filter class="org.apache.lucene.analysis.tr.Zemberek2DeASCIIfyFilterFactory" maxExpansions="5" cacheSize="10000"/&gt;</pre>
+ * Candidates of a word are ordered by the frequency of their roots. At most {@code maxExpansions} of them are
+ * emitted per token, zero meaning no limit, and the candidates of recent words are kept in a cache shared by
+ * the filters of the factory.
  */
 public class Zemberek2DeASCIIfyFilterFactory extends TokenFilterFactory {
 
-    private final Zemberek zemberek = new Zemberek(new TurkiyeTurkcesi());
     static final String DEASCII_TOKEN_TYPE = "<DEASCII>";
+    static final int DEFAULT_CACHE_SIZE = 10000;
+
+    private static final String[] NONE = new String[0];
+    // stateless, so one instance serves all threads
+    private static final KelimeKokFrekansKiyaslayici BY_ROOT_FREQUENCY = new KelimeKokFrekansKiyaslayici();
+
+    private final int maxExpansions;
+    private final ConcurrentLRUCache<String, String[]> cache;
 
     public Zemberek2DeASCIIfyFilterFactory(Map<String, String> args) {
         super(args);
+        maxExpansions = getInt(args, "maxExpansions", 0);
+        final int cacheSize = getInt(args, "cacheSize", DEFAULT_CACHE_SIZE);
+
         if (!args.isEmpty()) {
             throw new IllegalArgumentException("Unknown parameters: " + args);
         }
+
+        if (maxExpansions < 0)
+            throw new IllegalArgumentException("maxExpansions must be non-negative: " + maxExpansions);
+
+        if (cacheSize < 0)
+            throw new IllegalArgumentException("cacheSize must be non-negative: " + cacheSize);
+
+        cache = cacheSize > 0 ? new ConcurrentLRUCache<>(cacheSize) : null;
     }
 
+    /**
+     * @return the cache of candidates shared by the filters of this factory, or null if disabled
+     */
+    public ConcurrentLRUCache<String, String[]> getCache() {
+        return cache;
+    }
 
     @Override
     public TokenStream create(TokenStream input) {
         return new Zemberek2DeASCIIfyFilter(input);
     }
 
+    private String[] candidates(Zemberek zemberek, String word) {
+
+        if (cache != null) {
+            final String[] cached = cache.get(word);
+            if (cached != null) return cached;
+        }
+
+        final Kelime[] kelimeler = zemberek.asciiToleransliCozumleyici().cozumle(word, CozumlemeSeviyesi.TUM_KOKLER);
+
+        String[] candidates = NONE;
+        if (kelimeler.length > 0) {
+            Arrays.sort(kelimeler, BY_ROOT_FREQUENCY);
+
+            final Set<String> olusumlar = new LinkedHashSet<>(kelimeler.length * 2);
+            for (Kelime kelime : kelimeler) {
+                olusumlar.add(kelime.icerikStr());
+            }
+            olusumlar.remove(word);
+
+            final int size = maxExpansions > 0 ? Math.min(maxExpansions, olusumlar.size()) : olusumlar.size();
+            if (size > 0) {
+                candidates = new String[size];
+                final Iterator<String> iterator = olusumlar.iterator();
+                for (int i = 0; i < size; i++) {
+                    candidates[i] = iterator.next();
+                }
+            }
+        }
+
+        if (cache != null) cache.put(word, candidates);
+        return candidates;
+    }
+
     /**
      * DeASCIIfier based on <a href="https://code.google.com/p/zemberek">Zemberek2</a>
      * Modified from <a href="http://www.docjar.com/html/api/org/apache/lucene/wordnet/SynonymTokenFilter.java.html">
@@ -50,15 +114,15 @@ public class Zemberek2DeASCIIfyFilterFactory extends TokenFilterFactory {
      */
     private final class Zemberek2DeASCIIfyFilter extends TokenFilter {
 
+        private final Zemberek zemberek = Zemberek2Holder.get();
         private final CharTermAttribute termAttribute = addAttribute(CharTermAttribute.class);
         private final KeywordAttribute keywordAttribute = addAttribute(KeywordAttribute.class);
         private final TypeAttribute typeAtt = addAttribute(TypeAttribute.class);
         private final PositionIncrementAttribute posIncrAtt = addAttribute(PositionIncrementAttribute.class);
 
-        private String[] stack = null;
+        private String[] stack = NONE;
         private int index = 0;
         private AttributeSource.State current = null;
-        private int todo = 0;
 
         public Zemberek2DeASCIIfyFilter(TokenStream input) {
             super(input);
@@ -67,53 +131,34 @@ public class Zemberek2DeASCIIfyFilterFactory extends TokenFilterFactory {
         @Override
         public boolean incrementToken() throws IOException {
 
-            while (todo > 0 && index < stack.length) { // pop from stack
-                if (createToken(stack[index++], current)) {
-                    todo--;
-                    return true;
-                }
+            if (index < stack.length) { // pop from stack
+                createToken(stack[index++], current);
+                return true;
             }
 
             if (!input.incrementToken()) return false;
             if (keywordAttribute.isKeyword()) return true;
 
-            // stack = zemberek.asciidenTurkceye(termAttribute.toString());
-
-            Kelime[] kelimeler = zemberek.asciiToleransliCozumleyici().cozumle(termAttribute.toString(), CozumlemeSeviyesi.TUM_KOKLER);
-            Arrays.sort(kelimeler, new KelimeKokFrekansKiyaslayici());
-
-            ArrayList<String> olusumlar = new ArrayList<>(kelimeler.length);
-
-            for (Kelime kelime : kelimeler) {
-                String olusum = kelime.icerikStr();
-                if (!olusumlar.contains(olusum))
-                    olusumlar.add(olusum);
-            }
-
-            olusumlar.remove(termAttribute.toString());
-            stack = olusumlar.toArray(new String[olusumlar.size()]);
-
+            stack = candidates(zemberek, termAttribute.toString());
             index = 0;
-            current = captureState();
-            todo = stack.length;
+            // nothing to emit after this token, so there is no state to come back to
+            current = stack.length > 0 ? captureState() : null;
             return true;
         }
 
-        private boolean createToken(String synonym, AttributeSource.State current) {
+        private void createToken(String synonym, AttributeSource.State current) {
             restoreState(current);
             termAttribute.setEmpty().append(synonym);
             typeAtt.setType(DEASCII_TOKEN_TYPE);
             posIncrAtt.setPositionIncrement(0);
-            return true;
         }
 
         @Override
         public void reset() throws IOException {
             super.reset();
-            stack = null;
+            stack = NONE;
             index = 0;
             current = null;
-            todo = 0;
         }
     }
 
@@ -0,0 +1,48 @@
+package org.apache.lucene.analysis.tr;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import net.zemberek.erisim.Zemberek;
+import net.zemberek.tr.yapi.TurkiyeTurkcesi;
+
+/**
+ * The single <a href="https://code.google.com/p/zemberek">Zemberek2</a> instance of the JVM, shared by
+ * {@link Zemberek2StemFilterFactory} and {@link Zemberek2DeASCIIfyFilterFactory}. Its dictionary is loaded
+ * when the first filter is created, not when a factory is constructed.
+ */
+final class Zemberek2Holder {
+
+    private static volatile Zemberek instance;
+
+    private Zemberek2Holder() {
+    }
+
+    static Zemberek get() {
+        Zemberek zemberek = instance;
+        if (zemberek == null) {
+            synchronized (Zemberek2Holder.class) {
+                zemberek = instance;
+                if (zemberek == null) {
+                    // a failed load is not remembered, the next call tries again
+                    instance = zemberek = new Zemberek(new TurkiyeTurkcesi());
+                }
+            }
+        }
+        return zemberek;
+    }
+}
@@ -18,11 +18,8 @@ package org.apache.lucene.analysis.tr;
  */
 
 import net.zemberek.erisim.Zemberek;
-import net.zemberek.islemler.KelimeKokFrekansKiyaslayici;
 import net.zemberek.islemler.cozumleme.CozumlemeSeviyesi;
-import net.zemberek.tr.yapi.TurkiyeTurkcesi;
 import net.zemberek.yapi.Kelime;
-import net.zemberek.yapi.Kok;
 import org.apache.lucene.analysis.TokenFilter;
 import org.apache.lucene.analysis.TokenStream;
 import org.apache.lucene.analysis.core.WhitespaceTokenizer;
@@ -34,29 +31,89 @@ import org.apache.lucene.analysis.TokenFilterFactory;
 
 import java.io.IOException;
 import java.io.StringReader;
-import java.util.Arrays;
-import java.util.Comparator;
 import java.util.HashMap;
 import java.util.Map;
 
 /**
  * Factory for {@link Zemberek2StemFilter}.
+ * <pre class="prettyprint">
+ * &lt;filter class="org.apache.lucene.analysis.tr.Zemberek2StemFilterFactory" strategy="maxLength" cache="lru" cacheSize="10000"/&gt;</pre>
+ * Stems are kept in a {@link StemCache} shared by the filters of the factory.
  */
 public class Zemberek2StemFilterFactory extends TokenFilterFactory implements ResourceLoaderAware {
 
-    private static final RootLengthComparator ROOT_LENGTH_COMPARATOR = new RootLengthComparator();
-    private static final RootMorphemeComparator ROOT_MORPHEME_COMPARATOR = new RootMorphemeComparator();
-    private static final KelimeKokFrekansKiyaslayici FREQUENCY_COMPARATOR = new KelimeKokFrekansKiyaslayici();
-
-    private final Zemberek zemberek = new Zemberek(new TurkiyeTurkcesi());
-    private final String strategy;
+    private final RootSelector selector;
+    private final StemCache cache;
 
     public Zemberek2StemFilterFactory(Map<String, String> args) {
         super(args);
-        strategy = get(args, "strategy", "maxLength");
+        final String strategy = get(args, "strategy", "maxLength");
+        final String cacheType = get(args, "cache", "lru");
+        final int cacheSize = getInt(args, "cacheSize", StemCache.DEFAULT_SIZE);
         if (!args.isEmpty()) {
             throw new IllegalArgumentException("Unknown parameters: " + args);
         }
+        selector = selector(strategy);
+        cache = StemCache.create(cacheType, cacheSize);
+    }
+
+    /**
+     * @return the cache of stems shared by the filters of this factory
+     */
+    public StemCache getCache() {
+        return cache;
+    }
+
+    /**
+     * Picks one of the analyses of a word in a single pass. Ties resolve the way sorting the analyses with
+     * the former comparators did: the first of the longest roots, the last of the shortest, and so on.
+     */
+    private interface RootSelector {
+        Kelime select(Kelime[] cozumler);
+    }
+
+    private static RootSelector selector(String strategy) {
+        switch (strategy) {
+            case "first":
+                return cozumler -> cozumler[0];
+            case "frequency":
+                return cozumler -> {
+                    Kelime best = cozumler[0];
+                    for (int i = 1; i < cozumler.length; i++)
+                        if (cozumler[i].kok().getFrekans() > best.kok().getFrekans()) best = cozumler[i];
+                    return best;
+                };
+            case "maxLength":
+                return cozumler -> {
+                    Kelime best = cozumler[0];
+                    for (int i = 1; i < cozumler.length; i++)
+                        if (cozumler[i].kok().icerik().length() > best.kok().icerik().length()) best = cozumler[i];
+                    return best;
+                };
+            case "minLength":
+                return cozumler -> {
+                    Kelime best = cozumler[0];
+                    for (int i = 1; i < cozumler.length; i++)
+                        if (cozumler[i].kok().icerik().length() <= best.kok().icerik().length()) best = cozumler[i];
+                    return best;
+                };
+            case "maxMorpheme":
+                return cozumler -> {
+                    Kelime best = cozumler[0];
+                    for (int i = 1; i < cozumler.length; i++)
+                        if (cozumler[i].ekler().size() > best.ekler().size()) best = cozumler[i];
+                    return best;
+                };
+            case "minMorpheme":
+                return cozumler -> {
+                    Kelime best = cozumler[0];
+                    for (int i = 1; i < cozumler.length; i++)
+                        if (cozumler[i].ekler().size() <= best.ekler().size()) best = cozumler[i];
+                    return best;
+                };
+            default:
+                throw new IllegalArgumentException("unknown strategy " + strategy);
+        }
     }
 
     @Override
@@ -74,6 +131,7 @@ public class Zemberek2StemFilterFactory extends TokenFilterFactory implements Re
      */
     private final class Zemberek2StemFilter extends TokenFilter {
 
+        private final Zemberek zemberek = Zemberek2Holder.get();
         private final CharTermAttribute termAttribute = addAttribute(CharTermAttribute.class);
         private final KeywordAttribute keywordAttribute = addAttribute(KeywordAttribute.class);
 
@@ -81,33 +139,6 @@ public class Zemberek2StemFilterFactory extends TokenFilterFactory implements Re
             super(input);
         }
 
-        private String stem(Kelime[] cozumler, String aggregation) {
-
-            if ("first".equals(aggregation) || cozumler.length == 1) {
-                return cozumler[0].kok().icerik();
-            }
-
-            switch (aggregation) {
-                case "frequency":
-                    Arrays.sort(cozumler, FREQUENCY_COMPARATOR);
-                    return cozumler[0].kok().icerik();
-                case "maxLength":
-                    Arrays.sort(cozumler, ROOT_LENGTH_COMPARATOR);
-                    return cozumler[0].kok().icerik();
-                case "minLength":
-                    Arrays.sort(cozumler, ROOT_LENGTH_COMPARATOR);
-                    return cozumler[cozumler.length - 1].kok().icerik();
-                case "maxMorpheme":
-                    Arrays.sort(cozumler, ROOT_MORPHEME_COMPARATOR);
-                    return cozumler[0].kok().icerik();
-                case "minMorpheme":
-                    Arrays.sort(cozumler, ROOT_MORPHEME_COMPARATOR);
-                    return cozumler[cozumler.length - 1].kok().icerik();
-                default:
-                    throw new RuntimeException("unknown strategy " + aggregation);
-            }
-        }
-
         @Override
         public boolean incrementToken() throws IOException {
 
@@ -115,10 +146,13 @@ public class Zemberek2StemFilterFactory extends TokenFilterFactory implements Re
             if (keywordAttribute.isKeyword()) return true;
 
             final String term = termAttribute.toString();
-            final Kelime[] cozumler = zemberek.kelimeCozumle(term, CozumlemeSeviyesi.TUM_KOKLER);
-            if (cozumler.length == 0) return true;
+            String s = cache.get(term);
+            if (s == null) {
+                final Kelime[] cozumler = zemberek.kelimeCozumle(term, CozumlemeSeviyesi.TUM_KOKLER);
+                s = cozumler.length == 0 ? term : selector.select(cozumler).kok().icerik();
+                cache.put(term, s == null ? term : s);
+            }
 
-            final String s = stem(cozumler, strategy);
             // If not stemmed, don't waste the time adjusting the token.
             if ((s != null) && !s.equals(term))
                 termAttribute.setEmpty().append(s);
@@ -127,24 +161,6 @@ public class Zemberek2StemFilterFactory extends TokenFilterFactory implements Re
         }
     }
 
-    private static class RootLengthComparator implements Comparator<Kelime> {
-        @Override
-        public int compare(Kelime o1, Kelime o2) {
-            if (o1 == null || o2 == null) return -1;
-            final Kok k1 = o1.kok();
-            final Kok k2 = o2.kok();
-            return k2.icerik().length() - k1.icerik().length();
-        }
-    }
-
-    private static class RootMorphemeComparator implements Comparator<Kelime> {
-        @Override
-        public int compare(Kelime o1, Kelime o2) {
-            if (o1 == null || o2 == null) return -1;
-            return o2.ekler().size() - o1.ekler().size();
-        }
-    }
-
     public static void main(String[] args) throws IOException {
 
         StringReader reader = new StringReader("elması utansın ortaklar çekişme ile");
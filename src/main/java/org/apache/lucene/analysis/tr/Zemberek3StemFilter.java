@@ -22,90 +22,198 @@ import org.apache.lucene.analysis.TokenStream;
 import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
 import org.apache.lucene.analysis.tokenattributes.KeywordAttribute;
 import org.apache.lucene.analysis.tokenattributes.TypeAttribute;
+import org.apache.lucene.analysis.tr.util.CharArrayCache;
+import org.apache.lucene.analysis.tr.util.LocalCharArrayCache;
 import zemberek.morphology.analysis.SingleAnalysis;
 import zemberek.morphology.analysis.WordAnalysis;
 
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
  * Stemmer based on <a href="https://github.com/ahmetaa/zemberek-nlp">Zemberek3</a>
+ * <p>
+ * Stems may be cached at two levels: a small {@link LocalCharArrayCache} owned by the filter (L1), in front of
+ * a {@link CharArrayCache} shared by all filters of a factory (L2). A word enters L1 only when it is found in
+ * L2, that is, once it has been seen before, so words that occur once do not evict the hot ones. Without L2,
+ * every analyzed word enters L1.
  */
 public final class Zemberek3StemFilter extends TokenFilter {
 
     private static final HashSet<String> skipTypes = new HashSet<>(Arrays.asList("<NUM>", "<SOUTHEAST_ASIAN>", "<IDEOGRAPHIC>", "<HIRAGANA>", "<KATAKANA>", "<HANGUL>", "<EMOJI>"));
-    private final MyTurkishMorphology morphology;
-    private final String aggregation;
+    private MyTurkishMorphology morphology;
+    private final Future<MyTurkishMorphology> pending;
+    private final long timeoutMillis;
+    private final Stemmer stemmer;
+    private final CharArrayCache stemCache;
+    private final LocalCharArrayCache localCache;
 
     private final CharTermAttribute termAttribute = addAttribute(CharTermAttribute.class);
     private final KeywordAttribute keywordAttribute = addAttribute(KeywordAttribute.class);
     private final TypeAttribute typeAtt = this.addAttribute(TypeAttribute.class);
 
     public Zemberek3StemFilter(TokenStream input, MyTurkishMorphology morphology, String aggregation) {
+        this(input, morphology, aggregation, null);
+    }
+
+    /**
+     * @param stemCache optional cache of final stems, typically shared by all filters of a factory
+     */
+    public Zemberek3StemFilter(TokenStream input, MyTurkishMorphology morphology, String aggregation, CharArrayCache stemCache) {
+        this(input, morphology, new Stemmer("minMorpheme", "lemmas", aggregation), stemCache);
+    }
+
+    /**
+     * @param stemCache optional cache of final stems, typically shared by all filters of a factory
+     */
+    public Zemberek3StemFilter(TokenStream input, MyTurkishMorphology morphology, Stemmer stemmer, CharArrayCache stemCache) {
+        this(input, morphology, stemmer, stemCache, null);
+    }
+
+    /**
+     * @param localCache optional cache of final stems owned by this filter, consulted before {@code stemCache}
+     */
+    public Zemberek3StemFilter(TokenStream input, MyTurkishMorphology morphology, Stemmer stemmer, CharArrayCache stemCache, LocalCharArrayCache localCache) {
         super(input);
         this.morphology = morphology;
-        this.aggregation = aggregation;
+        this.pending = null;
+        this.timeoutMillis = 0;
+        this.stemmer = stemmer;
+        this.stemCache = stemCache;
+        this.localCache = localCache;
     }
 
-    private static List<SingleAnalysis> selectMorphemes(WordAnalysis results, String strategy) {
-
-        // if 0 or 1
-        if (results.analysisCount() < 2) return results.stream().collect(Collectors.toList());
+    /**
+     * Creates a filter whose morphology may still be loading. It waits for the morphology only when a token
+     * has to be analyzed, at most the given time.
+     */
+    public Zemberek3StemFilter(TokenStream input, Future<MyTurkishMorphology> morphology, long timeoutMillis, Stemmer stemmer, CharArrayCache stemCache) {
+        this(input, morphology, timeoutMillis, stemmer, stemCache, null);
+    }
 
-        switch (strategy) {
-            case "all":
-                return results.stream().collect(Collectors.toList());
-            case "maxMorpheme":
-                final int max = results.stream().map(morphParse -> morphParse.getMorphemeDataList().size()).max(Comparator.naturalOrder()).get();
-                return results.stream().filter(parse -> parse.getMorphemeDataList().size() == max).collect(Collectors.toList());
-            case "minMorpheme":
-                final int min = results.stream().map(morphParse -> morphParse.getMorphemeDataList().size()).min(Comparator.naturalOrder()).get();
-                return results.stream().filter(parse -> parse.getMorphemeDataList().size() == min).collect(Collectors.toList());
-            default:
-                throw new RuntimeException("unknown strategy " + strategy);
+    /**
+     * @param localCache optional cache of final stems owned by this filter, consulted before {@code stemCache}
+     */
+    public Zemberek3StemFilter(TokenStream input, Future<MyTurkishMorphology> morphology, long timeoutMillis, Stemmer stemmer, CharArrayCache stemCache, LocalCharArrayCache localCache) {
+        super(input);
+        this.pending = morphology;
+        this.timeoutMillis = timeoutMillis;
+        this.stemmer = stemmer;
+        this.stemCache = stemCache;
+        this.localCache = localCache;
+    }
 
+    private MyTurkishMorphology morphology() throws IOException {
+        if (morphology == null) {
+            try {
+                morphology = pending.get(timeoutMillis, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("interrupted while waiting for Zemberek3 morphology");
+            } catch (TimeoutException e) {
+                throw new IOException("Zemberek3 morphology is not ready after " + timeoutMillis + " ms", e);
+            } catch (ExecutionException e) {
+                throw new IOException("cannot build Zemberek3 morphology", e.getCause());
+            }
         }
+        return morphology;
     }
 
-    private static List<String> morphToString(List<SingleAnalysis> results, String methodName) {
-
-        List<String> list = new ArrayList<>();
-
-        switch (methodName) {
-            case "stems":
-                for (SingleAnalysis result : results)
-                    list.addAll(result.getStems());
-                return list;
-            case "lemmas":
-                for (SingleAnalysis result : results) {
-                    if (result.isUnknown()) {
-                        System.out.println("unknown");
-                        list.addAll(result.getStems());
-                    } else
-                        list.addAll(result.getLemmas());
-                }
-                return list;
-            default:
-                throw new RuntimeException("unknown method name " + methodName);
-        }
+    /**
+     * Picks the stem of a word from its analyses. The strategy is decided once, when the stemmer is created,
+     * and each word is stemmed in a single pass over its analyses without sorting or intermediate lists.
+     */
+    public static final class Stemmer {
 
+        private final int selection;
+        private final boolean lemmas;
+        private final boolean longest;
 
-    }
+        /**
+         * @param selection   analyses to consider: {@code all}, or only those with the fewest ({@code minMorpheme})
+         *                    or most ({@code maxMorpheme}) morphemes
+         * @param candidates  what an analysis contributes: its {@code stems} or its {@code lemmas}
+         * @param aggregation candidate to pick: the first longest ({@code maxLength}) or shortest ({@code minLength})
+         * @throws IllegalArgumentException if any of the names is unknown
+         */
+        public Stemmer(String selection, String candidates, String aggregation) {
+            switch (selection) {
+                case "all":
+                    this.selection = 0;
+                    break;
+                case "minMorpheme":
+                    this.selection = -1;
+                    break;
+                case "maxMorpheme":
+                    this.selection = 1;
+                    break;
+                default:
+                    throw new IllegalArgumentException("unknown selection " + selection);
+            }
+            switch (candidates) {
+                case "stems":
+                    this.lemmas = false;
+                    break;
+                case "lemmas":
+                    this.lemmas = true;
+                    break;
+                default:
+                    throw new IllegalArgumentException("unknown candidates " + candidates);
+            }
+            switch (aggregation) {
+                case "maxLength":
+                    this.longest = true;
+                    break;
+                case "minLength":
+                    this.longest = false;
+                    break;
+                default:
+                    throw new IllegalArgumentException("unknown strategy " + aggregation);
+            }
+        }
 
-    static String stem(WordAnalysis results, String aggregation) {
+        /**
+         * @return the selected stem, or null if the word has no analysis
+         */
+        public String stem(WordAnalysis results) {
+            final List<SingleAnalysis> analyses = results.getAnalysisResults();
+            String best = null;
+            int bestMorphemes = 0;
 
-        List<SingleAnalysis> alternatives = selectMorphemes(results, "minMorpheme");
+            for (int i = 0; i < analyses.size(); i++) {
+                final SingleAnalysis analysis = analyses.get(i);
+                if (selection != 0) {
+                    final int morphemes = analysis.getMorphemeDataList().size();
+                    if (best != null) {
+                        final int c = selection * Integer.compare(morphemes, bestMorphemes);
+                        if (c < 0) continue;
+                        // a better analysis discards the candidates of the previous ones
+                        if (c > 0) best = null;
+                    }
+                    bestMorphemes = morphemes;
+                }
+                best = pick(best, candidates(analysis));
+            }
+            return best;
+        }
 
-        List<String> candidates = morphToString(alternatives, "lemmas");
+        private List<String> candidates(SingleAnalysis analysis) {
+            return lemmas && !analysis.isUnknown() ? analysis.getLemmas() : analysis.getStems();
+        }
 
-        switch (aggregation) {
-            case "maxLength":
-                return Collections.max(candidates, Comparator.comparing(String::length));
-            case "minLength":
-                return Collections.min(candidates, Comparator.comparing(String::length));
-            default:
-                throw new RuntimeException("unknown strategy " + aggregation);
+        private String pick(String best, List<String> candidates) {
+            for (int i = 0; i < candidates.size(); i++) {
+                final String candidate = candidates.get(i);
+                // ties keep the earlier candidate
+                if (best == null || (longest ? candidate.length() > best.length() : candidate.length() < best.length()))
+                    best = candidate;
+            }
+            return best;
         }
     }
 
@@ -116,19 +224,51 @@ public final class Zemberek3StemFilter extends TokenFilter {
         if (keywordAttribute.isKeyword()) return true;
         if (skipTypes.contains(typeAtt.type())) return true;
 
+        final char[] buffer = termAttribute.buffer();
+        final int length = termAttribute.length();
+
+        if (localCache != null) {
+            final char[] cached = localCache.get(buffer, 0, length);
+            if (cached != null) {
+                termAttribute.copyBuffer(cached, 0, cached.length);
+                return true;
+            }
+        }
+
+        if (stemCache != null) {
+            final char[] cached = stemCache.get(buffer, 0, length);
+            if (cached != null) {
+                // seen before: promote it to the local cache
+                if (localCache != null)
+                    localCache.put(buffer, 0, length, cached);
+                termAttribute.copyBuffer(cached, 0, cached.length);
+                return true;
+            }
+        }
+
         /*
          *  copied from {@link org.apache.lucene.analysis.br.BrazilianStemFilter#incrementToken}
          */
-        final String word = termAttribute.toString();
+        final String word = new String(buffer, 0, length);
+
+        final WordAnalysis parses = morphology().analyze(word);
+        final String s = parses.analysisCount() == 0 ? null : stemmer.stem(parses);
 
-        final WordAnalysis parses = morphology.analyze(word);
-        if (parses.analysisCount() == 0) return true;
+        if (stemCache != null)
+            stemCache.put(buffer, 0, length, (s == null ? word : s).toCharArray());
+        else if (localCache != null)
+            localCache.put(buffer, 0, length, (s == null ? word : s).toCharArray());
 
-        final String s = stem(parses, aggregation);
         // If not stemmed, don't waste the time adjusting the token.
         if ((s != null) && !s.equals(word))
             termAttribute.setEmpty().append(s);
 
         return true;
     }
+
+    @Override
+    public void end() throws IOException {
+        super.end();
+        if (localCache != null) localCache.flush();
+    }
 }
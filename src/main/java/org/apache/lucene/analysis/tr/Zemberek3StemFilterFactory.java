@@ -19,18 +19,33 @@ package org.apache.lucene.analysis.tr;
 
 
 import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.tr.util.CharArrayCache;
+import org.apache.lucene.analysis.tr.util.LocalCharArrayCache;
 import org.apache.lucene.util.ResourceLoader;
 import org.apache.lucene.util.ResourceLoaderAware;
 import org.apache.lucene.analysis.TokenFilterFactory;
 import zemberek.morphology.analysis.SingleAnalysis;
 import zemberek.morphology.analysis.WordAnalysis;
+import zemberek.morphology.lexicon.RootLexicon;
 
 
+import java.io.Closeable;
 import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
 
 /**
  * Factory for {@link Zemberek3StemFilter}.
@@ -40,62 +55,241 @@ import java.util.Map;
  * &lt;tokenizer class="solr.StandardTokenizerFactory"/&gt;
  * &lt;filter class="solr.ApostropheFilterFactory"/&gt;
  * &lt;filter class="solr.TurkishLowerCaseFilterFactory"/&gt;
- * &lt;filter class="solr.Zemberek3StemFilterFactory" strategy="maxLength" dictionary="master-dictionary.dict,secondary-dictionary.dict,non-tdk.dict,proper.dict"/&gt;
+ * &lt;filter class="solr.Zemberek3StemFilterFactory" strategy="maxLength" selection="minMorpheme" candidates="lemmas" dictionary="master-dictionary.dict,secondary-dictionary.dict,non-tdk.dict,proper.dict" cacheSize="10000" staticCacheSize="0" unknownCacheSize="10000" stemCacheSize="16384" localStemCacheSize="256" informal="false" ignoreDiacritics="false" async="false" initTimeout="60000"/&gt;
  * &lt;/analyzer&gt;
  * &lt;/fieldType&gt;</pre>
+ * Factories with the same dictionaries, {@code informal} and {@code ignoreDiacritics} share one lexicon and
+ * analyzer through {@link MorphologyRegistry}, across field types and cores; those that also have the same
+ * cache sizes share one {@link MyTurkishMorphology}. Shared instances are released once no factory or filter
+ * refers to them, so closing the factory is optional.
+ * <p>
+ * With {@code snapshotDir}, the lexicon built from the dictionaries is saved there in binary form, and later
+ * starts with unchanged dictionaries load it instead of parsing them.
+ * <p>
+ * With {@code async="true"}, the morphology is built on a background thread and {@code inform} returns at
+ * once, so that several cores and field types load in parallel. Filters wait for it on their first token that
+ * needs analysis, at most {@code initTimeout} milliseconds, after which they fail with an {@link IOException}.
  */
-public class Zemberek3StemFilterFactory extends TokenFilterFactory implements ResourceLoaderAware {
+public class Zemberek3StemFilterFactory extends TokenFilterFactory implements ResourceLoaderAware, Closeable {
+
+    static final int DEFAULT_STEM_CACHE_SIZE = 16384;
+    static final int DEFAULT_LOCAL_STEM_CACHE_SIZE = 256;
+    static final int DEFAULT_INIT_TIMEOUT = 60000;
+
+    private static final ThreadPoolExecutor INIT_EXECUTOR;
+
+    static {
+        final int threads = Runtime.getRuntime().availableProcessors();
+        final AtomicInteger count = new AtomicInteger();
+        INIT_EXECUTOR = new ThreadPoolExecutor(threads, threads, 30, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), r -> {
+            final Thread thread = new Thread(r, "zemberek3-init-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        INIT_EXECUTOR.allowCoreThreadTimeOut(true);
+    }
 
     private MyTurkishMorphology morphology;
+    private MorphologyRegistry.Handle<MyTurkishMorphology> handle;
+    private final CharArrayCache stemCache;
+    private final int localStemCacheSize;
+    private final LongAdder localHits = new LongAdder();
+    private final LongAdder localMisses = new LongAdder();
 
-    private final String strategy;
+    private final Zemberek3StemFilter.Stemmer stemmer;
     private final String dictionaryFiles;
+    private final Path snapshotDir;
+    private final int cacheSize;
+    private final int staticCacheSize;
+    private final int unknownCacheSize;
+    private final boolean informal;
+    private final boolean ignoreDiacritics;
+    private final boolean async;
+    private final int initTimeout;
 
     public Zemberek3StemFilterFactory(Map<String, String> args) {
         super(args);
         dictionaryFiles = get(args, "dictionary");
-        strategy = get(args, "strategy", "maxLength");
+        final String snapshot = get(args, "snapshotDir");
+        snapshotDir = snapshot == null || snapshot.trim().isEmpty() ? null : Paths.get(snapshot.trim());
+        final String strategy = get(args, "strategy", "maxLength");
+        final String selection = get(args, "selection", "minMorpheme");
+        final String candidates = get(args, "candidates", "lemmas");
+        cacheSize = getInt(args, "cacheSize", MyTurkishMorphology.DEFAULT_CACHE_SIZE);
+        staticCacheSize = getInt(args, "staticCacheSize", 0);
+        unknownCacheSize = getInt(args, "unknownCacheSize", MyTurkishMorphology.DEFAULT_UNKNOWN_CACHE_SIZE);
+        informal = getBoolean(args, "informal", false);
+        ignoreDiacritics = getBoolean(args, "ignoreDiacritics", false);
+        async = getBoolean(args, "async", false);
+        initTimeout = getInt(args, "initTimeout", DEFAULT_INIT_TIMEOUT);
+        final int stemCacheSize = getInt(args, "stemCacheSize", DEFAULT_STEM_CACHE_SIZE);
+        localStemCacheSize = getInt(args, "localStemCacheSize", DEFAULT_LOCAL_STEM_CACHE_SIZE);
 
         if (!args.isEmpty()) {
             throw new IllegalArgumentException("Unknown parameters: " + args);
         }
+
+        stemmer = new Zemberek3StemFilter.Stemmer(selection, candidates, strategy);
+
+        if (cacheSize < 0)
+            throw new IllegalArgumentException("cacheSize must be non-negative: " + cacheSize);
+
+        if (staticCacheSize < 0)
+            throw new IllegalArgumentException("staticCacheSize must be non-negative: " + staticCacheSize);
+
+        if (unknownCacheSize < 0)
+            throw new IllegalArgumentException("unknownCacheSize must be non-negative: " + unknownCacheSize);
+
+        if (initTimeout <= 0)
+            throw new IllegalArgumentException("initTimeout must be positive: " + initTimeout);
+
+        if (stemCacheSize < 0)
+            throw new IllegalArgumentException("stemCacheSize must be non-negative: " + stemCacheSize);
+
+        if (localStemCacheSize < 0)
+            throw new IllegalArgumentException("localStemCacheSize must be non-negative: " + localStemCacheSize);
+
+        stemCache = stemCacheSize > 0 ? new CharArrayCache(stemCacheSize) : null;
+    }
+
+    private MyTurkishMorphology build(String coreKey, List<String> dictionary) {
+        final MyTurkishMorphology.Core core = MorphologyRegistry.core(coreKey,
+                () -> new MyTurkishMorphology.Core(lexicon(dictionary), informal, ignoreDiacritics));
+        return MyTurkishMorphology.builder()
+                .setCore(core)
+                .setCacheSize(cacheSize)
+                .setStaticCacheSize(staticCacheSize)
+                .setUnknownCacheSize(unknownCacheSize)
+                .build();
     }
 
     @Override
     public void inform(ResourceLoader loader) throws IOException {
 
-        if (dictionaryFiles == null || dictionaryFiles.trim().isEmpty()) {
-            this.morphology = MyTurkishMorphology.createWithDefaults();
-            // Use default dictionaries shipped with Zemberek3.
-            return;
-        }
         List<String> lines = new ArrayList<>();
 
-        List<String> files = splitFileNames(dictionaryFiles);
-        if (files.size() > 0) {
+        if (dictionaryFiles != null && !dictionaryFiles.trim().isEmpty()) {
+            List<String> files = splitFileNames(dictionaryFiles);
             for (String file : files) {
                 List<String> wlist = getLines(loader, file.trim());
                 lines.addAll(wlist);
             }
         }
 
-        if (lines.isEmpty()) {
-            this.morphology = MyTurkishMorphology.createWithDefaults();
-            // Use default dictionaries shipped with Zemberek3.
-            return;
+        // Use default dictionaries shipped with Zemberek3 when none is given.
+        final List<String> dictionary = lines.isEmpty() ? null : lines;
+        final String coreKey = MorphologyRegistry.key(dictionary, informal, ignoreDiacritics);
+        final String key = MorphologyRegistry.key(coreKey, cacheSize, staticCacheSize, unknownCacheSize);
+
+        final Supplier<MyTurkishMorphology> builder = () -> build(coreKey, dictionary);
+        if (async) {
+            handle = MorphologyRegistry.acquireAsync(key, builder, INIT_EXECUTOR);
+            morphology = null;
+        } else {
+            handle = MorphologyRegistry.acquire(key, builder);
+            morphology = handle.get();
         }
+    }
 
+    private RootLexicon lexicon(List<String> dictionary) {
+        if (dictionary == null)
+            return RootLexicon.getDefault();
+        if (snapshotDir != null)
+            return LexiconSnapshot.load(snapshotDir, dictionary);
+        return RootLexicon.fromLines(dictionary.toArray(new String[0]));
+    }
 
-        String[] linesArray = new String[lines.size()];
-        linesArray = lines.toArray(linesArray);
-        morphology = (new MyTurkishMorphology.Builder()).setLexicon(linesArray).build();
+    /**
+     * @return the shared morphology, waiting for it in async mode, or null before {@link #inform(ResourceLoader)}
+     */
+    public MyTurkishMorphology getMorphology() {
+        if (morphology == null && handle != null) return handle.get();
+        return morphology;
+    }
 
+    /**
+     * Drops the references of this factory to the shared morphology, which is released once no other factory
+     * or filter refers to it. Not required: an unreachable factory releases it just as well.
+     */
+    @Override
+    public void close() {
+        handle = null;
+        morphology = null;
+    }
+
+    /**
+     * @return the cache of final stems shared by the filters of this factory, or null if disabled
+     */
+    public CharArrayCache getStemCache() {
+        return stemCache;
+    }
+
+    /**
+     * @return hits of the caches local to the filters of this factory, as of the last document each filter ended
+     */
+    public long getLocalStemCacheHitCount() {
+        return localHits.sum();
+    }
+
+    /**
+     * @return misses of the caches local to the filters of this factory, as of the last document each filter ended
+     */
+    public long getLocalStemCacheMissCount() {
+        return localMisses.sum();
+    }
 
+    /**
+     * Snapshot of the counters of this factory and of its morphology, for a metrics reporter to poll. Never
+     * waits: the morphology counters are left out while it is still being built in async mode. The morphology
+     * counters are shared by the factories with the same dictionaries, options and cache sizes.
+     *
+     * @return counter name to value, in a stable order
+     */
+    public Map<String, Number> getMetrics() {
+        final Map<String, Number> metrics = new LinkedHashMap<>();
+        final MyTurkishMorphology morphology = readyMorphology();
+        if (morphology != null) {
+            metrics.put("analyzed", morphology.analyzedCount());
+            metrics.put("unknown", morphology.unknownCount());
+            metrics.put("empty", morphology.emptyCount());
+            metrics.put("unknownRate", morphology.unknownRate());
+            metrics.put("emptyRate", morphology.emptyRate());
+            if (morphology.getCache() != null)
+                metrics.put("cacheHitRate", morphology.getCache().hitRate());
+            if (morphology.getUnknownCache() != null)
+                metrics.put("unknownCacheHitRate", morphology.getUnknownCache().hitRate());
+        }
+        if (stemCache != null) {
+            metrics.put("stemCacheHits", stemCache.hitCount());
+            metrics.put("stemCacheMisses", stemCache.missCount());
+        }
+        if (localStemCacheSize > 0) {
+            metrics.put("localStemCacheHits", localHits.sum());
+            metrics.put("localStemCacheMisses", localMisses.sum());
+        }
+        return metrics;
+    }
+
+    private MyTurkishMorphology readyMorphology() {
+        if (morphology != null) return morphology;
+        final MorphologyRegistry.Handle<MyTurkishMorphology> handle = this.handle;
+        if (handle == null) return null;
+        final Future<MyTurkishMorphology> future = handle.future();
+        if (!future.isDone()) return null;
+        try {
+            return future.get();
+        } catch (InterruptedException | ExecutionException e) {
+            return null;
+        }
     }
 
     @Override
     public TokenStream create(TokenStream input) {
-        return new Zemberek3StemFilter(input, morphology, strategy);
+        final LocalCharArrayCache localCache = localStemCacheSize > 0
+                ? new LocalCharArrayCache(localStemCacheSize, localHits, localMisses) : null;
+        if (morphology == null && handle != null)
+            return new Zemberek3StemFilter(input, handle.future(), initTimeout, stemmer, stemCache, localCache);
+        return new Zemberek3StemFilter(input, morphology, stemmer, stemCache, localCache);
     }
 
     private static void parse(String word, MyTurkishMorphology morphology) {
@@ -116,7 +310,7 @@ public class Zemberek3StemFilterFactory extends TokenFilterFactory implements Re
             System.out.println("-------------------");
         }
 
-        System.out.println("final selected stem : " + Zemberek3StemFilter.stem(results, "maxLength"));
+        System.out.println("final selected stem : " + new Zemberek3StemFilter.Stemmer("minMorpheme", "lemmas", "maxLength").stem(results));
         System.out.println("==================================");
     }
 
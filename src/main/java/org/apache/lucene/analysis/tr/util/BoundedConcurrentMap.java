@@ -0,0 +1,143 @@
+package org.apache.lucene.analysis.tr.util;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A size-bounded, thread-safe map whose lookups never lock, backed by a {@link ConcurrentHashMap}.
+ * Entries are evicted one at a time with the CLOCK approximation of least-recently-used: a lookup only marks
+ * its entry as referenced, and a put into a full map sweeps the keys in insertion order, sparing and unmarking
+ * referenced entries until it finds one that was not looked up since the last sweep. Puts are serialized, which
+ * suits maps that are read far more often than written, like words known to have no analysis. Hit and miss
+ * counts are recorded for monitoring.
+ */
+public final class BoundedConcurrentMap<K, V> {
+
+    private final ConcurrentHashMap<K, Entry<V>> map;
+    // slot of every key, swept by the clock hand; guarded by this
+    private final Object[] keys;
+    private int count = 0;
+    private int hand = 0;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public BoundedConcurrentMap(int maxSize) {
+        if (maxSize < 1)
+            throw new IllegalArgumentException("maxSize must be positive: " + maxSize);
+        this.map = new ConcurrentHashMap<>(Math.min(maxSize, 1024));
+        this.keys = new Object[maxSize];
+    }
+
+    /**
+     * @return the value, or null if the key is absent
+     */
+    public V get(K key) {
+        final Entry<V> entry = map.get(key);
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        // write only when it changes, so that hot entries are not written on every lookup
+        if (!entry.referenced) entry.referenced = true;
+        hits.increment();
+        return entry.value;
+    }
+
+    public synchronized void put(K key, V value) {
+        final Entry<V> existing = map.get(key);
+        if (existing != null) {
+            map.put(key, new Entry<>(value, existing.slot));
+            return;
+        }
+        final int slot = count < keys.length ? count++ : evict();
+        keys[slot] = key;
+        map.put(key, new Entry<>(value, slot));
+    }
+
+    /**
+     * @return the slot of the evicted key
+     */
+    @SuppressWarnings("unchecked")
+    private int evict() {
+        while (true) {
+            final int slot = hand;
+            hand = hand + 1 == keys.length ? 0 : hand + 1;
+            final K key = (K) keys[slot];
+            final Entry<V> entry = map.get(key);
+            if (entry.referenced) {
+                entry.referenced = false;
+            } else {
+                map.remove(key);
+                return slot;
+            }
+        }
+    }
+
+    public synchronized void clear() {
+        map.clear();
+        Arrays.fill(keys, null);
+        count = 0;
+        hand = 0;
+    }
+
+    public int size() {
+        return map.size();
+    }
+
+    public int maxSize() {
+        return keys.length;
+    }
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    public long missCount() {
+        return misses.sum();
+    }
+
+    /**
+     * @return ratio of lookups that were answered from the map, or zero if there were no lookups yet
+     */
+    public double hitRate() {
+        final long h = hits.sum();
+        final long total = h + misses.sum();
+        return total == 0 ? 0.0 : (double) h / total;
+    }
+
+    @Override
+    public String toString() {
+        return "BoundedConcurrentMap{size=" + size() + ", maxSize=" + maxSize() + ", hits=" + hitCount() + ", misses=" + missCount() + "}";
+    }
+
+    private static final class Entry<V> {
+
+        final V value;
+        final int slot;
+        volatile boolean referenced;
+
+        Entry(V value, int slot) {
+            this.value = value;
+            this.slot = slot;
+        }
+    }
+}
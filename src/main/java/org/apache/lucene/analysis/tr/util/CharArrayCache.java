@@ -0,0 +1,136 @@
+package org.apache.lucene.analysis.tr.util;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A fixed-size, thread-safe cache from char sequences to char sequences that can be probed
+ * directly with a term buffer, e.g. {@link org.apache.lucene.analysis.tokenattributes.CharTermAttribute#buffer()}.
+ * <p>
+ * The table is direct-mapped: every key hashes to exactly one slot and a colliding insert simply
+ * replaces the previous entry. A lookup therefore costs one hash over the term and one comparison,
+ * without locking and without allocating. Entries are immutable, so a slot written by one thread
+ * is safely visible to the others through the final fields even though the table itself is not
+ * volatile.
+ * <p>
+ * Values must not be modified after they are put in the cache.
+ */
+public final class CharArrayCache {
+
+    private final Entry[] table;
+    private final int mask;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * @param size number of slots, rounded up to the next power of two
+     */
+    public CharArrayCache(int size) {
+        if (size < 1)
+            throw new IllegalArgumentException("size must be positive: " + size);
+        final int capacity = size == 1 ? 1 : Integer.highestOneBit(size - 1) << 1;
+        this.table = new Entry[capacity];
+        this.mask = capacity - 1;
+    }
+
+    static int hash(char[] buffer, int offset, int length) {
+        int h = 0;
+        for (int i = offset, end = offset + length; i < end; i++) {
+            h = 31 * h + buffer[i];
+        }
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * @return the cached value for the given chars, or null if there is none
+     */
+    public char[] get(char[] buffer, int offset, int length) {
+        final int hash = hash(buffer, offset, length);
+        final Entry entry = table[hash & mask];
+        if (entry != null && entry.hash == hash && entry.matches(buffer, offset, length)) {
+            hits.increment();
+            return entry.value;
+        }
+        misses.increment();
+        return null;
+    }
+
+    /**
+     * Caches the value for a copy of the given chars, evicting whatever occupied the slot.
+     */
+    public void put(char[] buffer, int offset, int length, char[] value) {
+        final int hash = hash(buffer, offset, length);
+        final char[] key = Arrays.copyOfRange(buffer, offset, offset + length);
+        // identity mappings are common (unknown words, words that are their own stem): share the array
+        table[hash & mask] = new Entry(hash, key, Arrays.equals(key, value) ? key : value);
+    }
+
+    public void clear() {
+        Arrays.fill(table, null);
+    }
+
+    public int capacity() {
+        return table.length;
+    }
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    public long missCount() {
+        return misses.sum();
+    }
+
+    /**
+     * @return ratio of lookups that were answered from the cache, or zero if there were no lookups yet
+     */
+    public double hitRate() {
+        final long h = hits.sum();
+        final long total = h + misses.sum();
+        return total == 0 ? 0.0 : (double) h / total;
+    }
+
+    @Override
+    public String toString() {
+        return "CharArrayCache{capacity=" + table.length + ", hits=" + hitCount() + ", misses=" + missCount() + "}";
+    }
+
+    private static final class Entry {
+
+        final int hash;
+        final char[] key;
+        final char[] value;
+
+        Entry(int hash, char[] key, char[] value) {
+            this.hash = hash;
+            this.key = key;
+            this.value = value;
+        }
+
+        boolean matches(char[] buffer, int offset, int length) {
+            if (key.length != length) return false;
+            for (int i = 0; i < length; i++) {
+                if (key[i] != buffer[offset + i]) return false;
+            }
+            return true;
+        }
+    }
+}
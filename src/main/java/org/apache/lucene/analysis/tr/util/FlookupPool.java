@@ -0,0 +1,357 @@
+package org.apache.lucene.analysis.tr.util;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.InterruptedIOException;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A small pool of long-lived <a href="https://fomafst.github.io">foma</a> {@code flookup} processes.
+ * Words are streamed over the standard input of an idle process, one per line, and its answers are
+ * read back up to the blank line that flookup prints after each word. Processes are started lazily,
+ * and restarted once if they die in the middle of a lookup or print nothing for {@code timeoutMillis},
+ * so that a hung process neither blocks its caller forever nor keeps its slot of the pool. They are
+ * terminated by {@link #close()}, or else once the pool is garbage collected or the JVM exits.
+ * <p>
+ * Each process has one long-lived writer thread, fed through a queue, and one reader thread. A batch
+ * of words can be looked up in one round trip with {@link #lookup(List)}: the caller queues the words
+ * and reads the answers while the writer sends them, so that neither side can stall on a full pipe and
+ * flookup starts working on the first words before the last ones are sent. The caller still waits for
+ * the whole batch; this is batching, not overlap with tokenization.
+ */
+public final class FlookupPool implements FomaLookup {
+
+    private static final Logger log = LoggerFactory.getLogger(FlookupPool.class);
+
+    public static final long DEFAULT_TIMEOUT_MILLIS = 30000;
+    // how long closing waits for terminated processes to exit before killing them
+    static final long CLOSE_GRACE_MILLIS = 200;
+
+    // marks the end of the output of a process
+    private static final String EOF = new String("EOF");
+    // stops the writer thread of a process
+    private static final String STOP = new String("STOP");
+
+    private final Coprocess[] processes;
+    private final BlockingQueue<Coprocess> idle;
+    private final Reaper.Cleanable cleanable;
+    private volatile boolean closed = false;
+
+    /**
+     * @param lookup absolute path of the flookup executable
+     * @param fst    absolute path of the binary foma file
+     * @param size   maximum number of flookup processes running at the same time
+     */
+    public FlookupPool(String lookup, String fst, int size) {
+        this(lookup, fst, size, DEFAULT_TIMEOUT_MILLIS);
+    }
+
+    /**
+     * @param timeoutMillis longest a process may stay silent while answers are due before it is restarted
+     */
+    public FlookupPool(String lookup, String fst, int size, long timeoutMillis) {
+        if (size < 1)
+            throw new IllegalArgumentException("size must be positive: " + size);
+        if (timeoutMillis < 1)
+            throw new IllegalArgumentException("timeoutMillis must be positive: " + timeoutMillis);
+
+        // -b makes flookup flush after every word, otherwise answers would sit in its output buffer
+        final List<String> command = Collections.unmodifiableList(Arrays.asList(lookup, "-b", fst));
+        final Coprocess[] processes = new Coprocess[size];
+        this.idle = new ArrayBlockingQueue<>(size);
+        for (int i = 0; i < size; i++) {
+            processes[i] = new Coprocess(command, timeoutMillis);
+            idle.add(processes[i]);
+        }
+        this.processes = processes;
+        // the action holds the processes only, not the pool
+        this.cleanable = Reaper.register(this, () -> {
+            // terminate all before waiting, so that the grace period is spent once, not once per process
+            for (Coprocess process : processes) process.terminate();
+            final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(CLOSE_GRACE_MILLIS);
+            for (Coprocess process : processes) process.kill(deadline);
+        });
+    }
+
+    /**
+     * @return non-empty output lines of flookup for the given word, each of the form {@code word<TAB>analysis}
+     */
+    @Override
+    public List<String> lookup(String word) throws IOException {
+
+        if (closed)
+            throw new IllegalStateException("flookup pool is closed");
+
+        word = sanitize(word);
+        if (word.isEmpty()) return Collections.emptyList();
+
+        final Coprocess process = take();
+        try {
+            return process.lookup(word);
+        } finally {
+            idle.add(process);
+        }
+    }
+
+    /**
+     * Looks up all words in a single round trip.
+     *
+     * @return output lines of flookup for each word, in the order of the given words
+     */
+    @Override
+    public List<List<String>> lookup(List<String> words) throws IOException {
+
+        if (closed)
+            throw new IllegalStateException("flookup pool is closed");
+
+        final List<List<String>> answers = new ArrayList<>(words.size());
+        final List<String> batch = new ArrayList<>(words.size());
+        for (String word : words) {
+            word = sanitize(word);
+            if (!word.isEmpty()) batch.add(word);
+        }
+
+        if (!batch.isEmpty()) {
+            final Coprocess process = take();
+            try {
+                answers.addAll(process.lookup(batch));
+            } finally {
+                idle.add(process);
+            }
+        }
+
+        // put back empty answers for the words that were not sent
+        if (batch.size() < words.size()) {
+            final List<List<String>> all = new ArrayList<>(words.size());
+            int j = 0;
+            for (String word : words) {
+                all.add(sanitize(word).isEmpty() ? Collections.<String>emptyList() : answers.get(j++));
+            }
+            return all;
+        }
+        return answers;
+    }
+
+    /**
+     * flookup reads one word per line
+     */
+    private static String sanitize(String word) {
+        return word.replace('\n', ' ').replace('\r', ' ');
+    }
+
+    private Coprocess take() throws InterruptedIOException {
+        try {
+            return idle.take();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("interrupted while waiting for flookup");
+        }
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        cleanable.clean();
+    }
+
+    /**
+     * A flookup process. Words to send are queued for its writer thread, and its output is pumped by a
+     * reader thread into another queue, so that answers can be awaited with a deadline. Both threads end
+     * with the process.
+     */
+    private static final class Coprocess {
+
+        private final List<String> command;
+        private final long timeoutMillis;
+
+        private volatile boolean closed = false;
+        // written under the lock of the coprocess, read without it by terminate and kill
+        private volatile Process process;
+        private volatile BlockingQueue<String> words;
+        private BlockingQueue<String> lines;
+
+        Coprocess(List<String> command, long timeoutMillis) {
+            this.command = command;
+            this.timeoutMillis = timeoutMillis;
+        }
+
+        private void start() throws IOException {
+            ProcessBuilder builder = new ProcessBuilder(command);
+            builder.redirectError(ProcessBuilder.Redirect.INHERIT);
+            process = builder.start();
+
+            final BlockingQueue<String> outgoing = new LinkedBlockingQueue<>();
+            final BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(process.getOutputStream(), StandardCharsets.UTF_8));
+            Thread sender = new Thread(() -> {
+                try {
+                    String word;
+                    while ((word = outgoing.take()) != STOP) {
+                        writer.write(word);
+                        writer.write('\n');
+                        // flush once the words queued so far are written
+                        if (outgoing.isEmpty()) writer.flush();
+                    }
+                } catch (IOException | InterruptedException e) {
+                    // the process was destroyed or died, the reader sees it too
+                }
+            }, "flookup-writer");
+            sender.setDaemon(true);
+            sender.start();
+            words = outgoing;
+
+            // a fresh queue per process, so that a restarted process never sees answers of the previous one
+            final BlockingQueue<String> queue = new LinkedBlockingQueue<>();
+            final BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8));
+            Thread pump = new Thread(() -> {
+                try {
+                    String s;
+                    while ((s = reader.readLine()) != null) {
+                        queue.add(s);
+                    }
+                } catch (IOException e) {
+                    // the process was destroyed or died
+                } finally {
+                    queue.add(EOF);
+                }
+            }, "flookup-reader");
+            pump.setDaemon(true);
+            pump.start();
+            lines = queue;
+            log.debug("started flookup process {}", command);
+
+            // a close that ran meanwhile may have missed this process
+            if (closed) {
+                destroy();
+                throw new IllegalStateException("flookup pool is closed");
+            }
+        }
+
+        private void destroy() {
+            if (process == null) return;
+            process.destroyForcibly();
+            words.add(STOP);
+            process = null;
+            words = null;
+            lines = null;
+        }
+
+        /**
+         * Asks the process to exit, without the lock: a lookup in flight sees the end of its output and fails
+         * at once instead of holding up the close until its timeout.
+         */
+        void terminate() {
+            closed = true;
+            final Process process = this.process;
+            if (process != null) process.destroy();
+        }
+
+        /**
+         * Kills the process unless it exited by the deadline, given in {@link System#nanoTime()}, and stops
+         * its writer thread.
+         */
+        void kill(long deadline) {
+            final Process process = this.process;
+            if (process != null) {
+                try {
+                    process.waitFor(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                process.destroyForcibly();
+            }
+            final BlockingQueue<String> words = this.words;
+            if (words != null) words.add(STOP);
+        }
+
+        synchronized List<String> lookup(String word) throws IOException {
+            for (int attempt = 0; ; attempt++) {
+                try {
+                    if (closed)
+                        throw new IllegalStateException("flookup pool is closed");
+                    if (process == null || !process.isAlive())
+                        start();
+                    words.add(word);
+                    return read();
+                } catch (IOException e) {
+                    // answers may still be due, the process cannot be reused
+                    destroy();
+                    if (attempt > 0 || e instanceof InterruptedIOException) throw e;
+                    log.warn("flookup process failed, restarting: " + e.getMessage());
+                }
+            }
+        }
+
+        synchronized List<List<String>> lookup(List<String> words) throws IOException {
+            for (int attempt = 0; ; attempt++) {
+                try {
+                    if (closed)
+                        throw new IllegalStateException("flookup pool is closed");
+                    if (process == null || !process.isAlive())
+                        start();
+                    this.words.addAll(words);
+                    final List<List<String>> answers = new ArrayList<>(words.size());
+                    for (int i = 0; i < words.size(); i++) {
+                        answers.add(read());
+                    }
+                    return answers;
+                } catch (IOException e) {
+                    // answers may still be due, the process cannot be reused
+                    destroy();
+                    if (attempt > 0 || e instanceof InterruptedIOException) throw e;
+                    log.warn("flookup process failed, restarting: " + e.getMessage());
+                }
+            }
+        }
+
+        private List<String> read() throws IOException {
+            List<String> list = new ArrayList<>();
+            while (true) {
+                final String s;
+                try {
+                    s = lines.poll(timeoutMillis, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException("interrupted while reading from flookup");
+                }
+                if (s == null)
+                    throw new IOException("flookup process did not answer within " + timeoutMillis + " ms");
+                if (s == EOF)
+                    throw new IOException("flookup process terminated unexpectedly");
+                // a blank line terminates the answer for a word
+                if (s.trim().isEmpty()) return list;
+                list.add(s.trim());
+            }
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package org.apache.lucene.analysis.tr.util;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Applies a <a href="https://fomafst.github.io">foma</a> transducer to words the way {@code flookup} does.
+ * Answers are lines of the form {@code word<TAB>analysis}; a word without analyses yields {@code word<TAB>+?}.
+ */
+public interface FomaLookup extends Closeable {
+
+    List<String> lookup(String word) throws IOException;
+
+    /**
+     * @return answers for each word, in the order of the given words
+     */
+    default List<List<String>> lookup(List<String> words) throws IOException {
+        List<List<String>> answers = new ArrayList<>(words.size());
+        for (String word : words) {
+            answers.add(lookup(word));
+        }
+        return answers;
+    }
+
+    @Override
+    void close();
+}
@@ -0,0 +1,495 @@
+package org.apache.lucene.analysis.tr.util;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import java.io.BufferedInputStream;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Pure Java reader and applier for binary <a href="https://fomafst.github.io">foma</a> files, which
+ * are gzipped text made of {@code ##props##}, {@code ##sigma##} and {@code ##states##} sections.
+ * The first network of the file is loaded into flat arrays and applied upwards like {@code flookup}
+ * does by default: input words are matched against the lower side and the upper side is returned.
+ * Flag diacritics are obeyed and hidden from the output.
+ * <p>
+ * Instances are immutable after loading, so one transducer can serve any number of threads.
+ */
+public final class FomaTransducer implements FomaLookup {
+
+    private static final int EPSILON = 0;
+    private static final int UNKNOWN = 1;
+    private static final int IDENTITY = 2;
+
+    /**
+     * Guards against epsilon cycles on the input side, which would otherwise generate endless outputs.
+     */
+    private static final int MAX_EPSILON_RUN = 256;
+    private static final int MAX_RESULTS = 1024;
+
+    private static final Pattern FLAG = Pattern.compile("@([PNRDCUE])\\.([^.@]+)(?:\\.([^@]+))?@");
+
+    private final String[] symbols;
+    private final SymbolTrie trie;
+
+    // flag diacritics, indexed by symbol number; flagType is zero for ordinary symbols
+    private final char[] flagType;
+    private final int[] flagFeature;
+    private final int[] flagValue;
+    private final int featureCount;
+
+    // arcs of state s are firstArc[s] until firstArc[s + 1]
+    private final int[] firstArc;
+    private final int[] arcIn;
+    private final int[] arcOut;
+    private final int[] arcTarget;
+    private final boolean[] finals;
+
+    private FomaTransducer(Map<Integer, String> sigma, IntList states, IntList in, IntList out, IntList target, List<Integer> finalStates) {
+
+        int maxSymbol = IDENTITY;
+        for (int number : sigma.keySet()) maxSymbol = Math.max(maxSymbol, number);
+
+        symbols = new String[maxSymbol + 1];
+        flagType = new char[maxSymbol + 1];
+        flagFeature = new int[maxSymbol + 1];
+        flagValue = new int[maxSymbol + 1];
+        trie = new SymbolTrie();
+
+        Map<String, Integer> features = new HashMap<>();
+        Map<String, Integer> values = new HashMap<>();
+
+        for (Map.Entry<Integer, String> entry : sigma.entrySet()) {
+            final int number = entry.getKey();
+            final String symbol = entry.getValue();
+            symbols[number] = symbol;
+
+            if (number <= IDENTITY) continue;
+
+            Matcher m = FLAG.matcher(symbol);
+            if (m.matches()) {
+                flagType[number] = m.group(1).charAt(0);
+                flagFeature[number] = id(features, m.group(2));
+                // the value of an equality test is another feature
+                flagValue[number] = m.group(3) == null ? 0 : flagType[number] == 'E' ? id(features, m.group(3)) : id(values, m.group(3));
+            } else {
+                trie.add(symbol, number);
+            }
+        }
+        featureCount = features.size() + 1;
+
+        int stateCount = 0;
+        for (int i = 0; i < states.size(); i++) stateCount = Math.max(stateCount, states.get(i) + 1);
+        for (int s : finalStates) stateCount = Math.max(stateCount, s + 1);
+
+        // arcs are written grouped by state, but count them to be safe
+        firstArc = new int[stateCount + 1];
+        for (int i = 0; i < states.size(); i++) firstArc[states.get(i) + 1]++;
+        for (int s = 0; s < stateCount; s++) firstArc[s + 1] += firstArc[s];
+
+        final int[] next = Arrays.copyOf(firstArc, stateCount);
+        arcIn = new int[states.size()];
+        arcOut = new int[states.size()];
+        arcTarget = new int[states.size()];
+        for (int i = 0; i < states.size(); i++) {
+            final int a = next[states.get(i)]++;
+            arcIn[a] = in.get(i);
+            arcOut[a] = out.get(i);
+            arcTarget[a] = target.get(i);
+        }
+
+        finals = new boolean[stateCount];
+        for (int s : finalStates) finals[s] = true;
+    }
+
+    private static int id(Map<String, Integer> ids, String name) {
+        Integer id = ids.get(name);
+        if (id == null) {
+            // zero stands for an unset value
+            id = ids.size() + 1;
+            ids.put(name, id);
+        }
+        return id;
+    }
+
+    public int stateCount() {
+        return finals.length;
+    }
+
+    public int arcCount() {
+        return arcIn.length;
+    }
+
+    /**
+     * Loads the first network of a (possibly gzipped) foma binary file.
+     */
+    public static FomaTransducer load(Path path) throws IOException {
+        try (InputStream stream = new BufferedInputStream(Files.newInputStream(path))) {
+            return load(stream);
+        }
+    }
+
+    public static FomaTransducer load(InputStream stream) throws IOException {
+
+        if (!stream.markSupported()) stream = new BufferedInputStream(stream);
+
+        // foma writes gzip, but uncompressed nets are accepted as well
+        stream.mark(2);
+        final boolean gzip = stream.read() == 0x1f && stream.read() == 0x8b;
+        stream.reset();
+
+        final BufferedReader reader = new BufferedReader(new InputStreamReader(gzip ? new GZIPInputStream(stream) : stream, StandardCharsets.UTF_8));
+
+        String line = reader.readLine();
+        if (line == null || !line.startsWith("##foma-net"))
+            throw new IOException("not a foma network, header is: " + line);
+
+        final Map<Integer, String> sigma = new HashMap<>();
+        final IntList states = new IntList();
+        final IntList in = new IntList();
+        final IntList out = new IntList();
+        final IntList target = new IntList();
+        final List<Integer> finalStates = new ArrayList<>();
+
+        String section = null;
+        int state = -1;
+        int[] values = new int[5];
+
+        while ((line = reader.readLine()) != null) {
+
+            if (line.startsWith("##")) {
+                section = line;
+                if ("##end##".equals(section)) break;
+                continue;
+            }
+
+            if ("##sigma##".equals(section)) {
+                // the symbol follows the first space and may itself be a space
+                final int space = line.indexOf(' ');
+                if (space < 0) throw new IOException("malformed sigma line: " + line);
+                sigma.put(Integer.parseInt(line.substring(0, space)), line.substring(space + 1));
+            } else if ("##states##".equals(section)) {
+
+                final int count = parse(line, values);
+                final int arcIn, arcOut, arcTarget;
+
+                switch (count) {
+                    case 2:
+                        arcIn = arcOut = values[0];
+                        arcTarget = values[1];
+                        break;
+                    case 3:
+                        arcIn = values[0];
+                        arcOut = values[1];
+                        arcTarget = values[2];
+                        break;
+                    case 4:
+                        state = values[0];
+                        arcIn = arcOut = values[1];
+                        arcTarget = values[2];
+                        if (values[3] == 1) finalStates.add(state);
+                        break;
+                    case 5:
+                        state = values[0];
+                        arcIn = values[1];
+                        arcOut = values[2];
+                        arcTarget = values[3];
+                        if (values[4] == 1) finalStates.add(state);
+                        break;
+                    default:
+                        throw new IOException("malformed state line: " + line);
+                }
+
+                // sentinel
+                if (state == -1) continue;
+                // a state without outgoing arcs
+                if (arcTarget == -1) continue;
+
+                states.add(state);
+                in.add(arcIn);
+                out.add(arcOut);
+                target.add(arcTarget);
+            }
+        }
+
+        if (states.size() == 0 && finalStates.isEmpty())
+            throw new IOException("foma network has no states");
+
+        return new FomaTransducer(sigma, states, in, out, target, finalStates);
+    }
+
+    /**
+     * Splits a line of space separated integers.
+     *
+     * @return number of integers found
+     */
+    private static int parse(String line, int[] values) throws IOException {
+        int count = 0;
+        int i = 0;
+        final int length = line.length();
+        while (i < length) {
+            while (i < length && line.charAt(i) == ' ') i++;
+            if (i == length) break;
+            int j = i;
+            while (j < length && line.charAt(j) != ' ') j++;
+            if (count == values.length) throw new IOException("malformed state line: " + line);
+            values[count++] = Integer.parseInt(line.substring(i, j));
+            i = j;
+        }
+        return count;
+    }
+
+    /**
+     * @return distinct upper side strings of the paths whose lower side is the given word
+     */
+    public List<String> apply(String word) {
+
+        final Search search = new Search(word);
+        search.walk(0, 0, 0);
+
+        if (search.results.isEmpty()) return Collections.emptyList();
+        return new ArrayList<>(search.results);
+    }
+
+    @Override
+    public List<String> lookup(String word) {
+        final List<String> analyses = apply(word);
+        if (analyses.isEmpty()) return Collections.singletonList(word + "\t+?");
+
+        final List<String> lines = new ArrayList<>(analyses.size());
+        for (String analysis : analyses) {
+            lines.add(word + "\t" + analysis);
+        }
+        return lines;
+    }
+
+    @Override
+    public void close() {
+    }
+
+    /**
+     * Per-call state of a depth first traversal: the tokenized input, the output built so far and
+     * the current values of the flag diacritic features.
+     */
+    private final class Search {
+
+        final int[] tokens;
+        final String[] unknowns;
+        final StringBuilder output = new StringBuilder();
+        final Set<String> results = new LinkedHashSet<>();
+
+        final int[] featureValue = new int[featureCount];
+        final boolean[] featureNegated = new boolean[featureCount];
+
+        Search(String word) {
+            // longest match against the alphabet, otherwise a single unknown code point
+            final IntList tokens = new IntList();
+            final List<String> unknowns = new ArrayList<>();
+            int i = 0;
+            while (i < word.length()) {
+                final long match = trie.longestMatch(word, i);
+                if (match >= 0) {
+                    tokens.add((int) (match >>> 32));
+                    unknowns.add(null);
+                    i += (int) match;
+                } else {
+                    final int end = word.offsetByCodePoints(i, 1);
+                    tokens.add(-1);
+                    unknowns.add(word.substring(i, end));
+                    i = end;
+                }
+            }
+            this.tokens = tokens.toArray();
+            this.unknowns = unknowns.toArray(new String[0]);
+        }
+
+        void walk(int state, int position, int epsilonRun) {
+
+            if (results.size() >= MAX_RESULTS) return;
+
+            if (position == tokens.length && finals[state])
+                results.add(output.toString());
+
+            for (int a = firstArc[state], end = firstArc[state + 1]; a < end; a++) {
+
+                final int lower = arcOut[a];
+                final int upper = arcIn[a];
+                final int length = output.length();
+
+                if (flagType[lower] != 0) {
+                    if (epsilonRun >= MAX_EPSILON_RUN) continue;
+                    final int feature = flagFeature[lower];
+                    final int value = featureValue[feature];
+                    final boolean negated = featureNegated[feature];
+                    if (flag(lower)) {
+                        walk(arcTarget[a], position, epsilonRun + 1);
+                    }
+                    featureValue[feature] = value;
+                    featureNegated[feature] = negated;
+                    continue;
+                }
+
+                if (lower == EPSILON) {
+                    if (epsilonRun >= MAX_EPSILON_RUN) continue;
+                    append(upper, null);
+                    walk(arcTarget[a], position, epsilonRun + 1);
+                    output.setLength(length);
+                    continue;
+                }
+
+                if (position == tokens.length) continue;
+
+                final int token = tokens[position];
+                if (token >= 0 ? lower == token : (lower == IDENTITY || lower == UNKNOWN)) {
+                    append(upper, unknowns[position]);
+                    walk(arcTarget[a], position + 1, 0);
+                    output.setLength(length);
+                }
+            }
+        }
+
+        private void append(int upper, String unknown) {
+            if (upper == EPSILON || flagType[upper] != 0) return;
+            if (upper == IDENTITY) {
+                output.append(unknown);
+            } else if (upper == UNKNOWN) {
+                output.append('?');
+            } else {
+                output.append(symbols[upper]);
+            }
+        }
+
+        /**
+         * Tests and applies a flag diacritic, following the semantics of foma's apply.c.
+         */
+        private boolean flag(int symbol) {
+
+            final int feature = flagFeature[symbol];
+            final int value = flagValue[symbol];
+            final int current = featureValue[feature];
+            final boolean negated = featureNegated[feature];
+
+            switch (flagType[symbol]) {
+                case 'P':
+                    featureValue[feature] = value;
+                    featureNegated[feature] = false;
+                    return true;
+                case 'N':
+                    featureValue[feature] = value;
+                    featureNegated[feature] = true;
+                    return true;
+                case 'C':
+                    featureValue[feature] = 0;
+                    featureNegated[feature] = false;
+                    return true;
+                case 'U':
+                    if (current == 0 || (current != value && negated)) {
+                        featureValue[feature] = value;
+                        featureNegated[feature] = false;
+                        return true;
+                    }
+                    return current == value && !negated;
+                case 'R':
+                    if (current == 0) return false;
+                    if (value == 0) return true;
+                    return (current == value) != negated;
+                case 'D':
+                    if (current == 0) return true;
+                    if (value == 0) return false;
+                    return (current == value) == negated;
+                case 'E':
+                    return featureValue[value] == current && featureNegated[value] == negated;
+                default:
+                    return false;
+            }
+        }
+    }
+
+    /**
+     * Character trie over the multi-character symbols of the alphabet.
+     */
+    private static final class SymbolTrie {
+
+        private final Map<Character, SymbolTrie> children = new HashMap<>();
+        private int symbol = -1;
+
+        void add(String s, int number) {
+            SymbolTrie node = this;
+            for (int i = 0; i < s.length(); i++) {
+                node = node.children.computeIfAbsent(s.charAt(i), c -> new SymbolTrie());
+            }
+            node.symbol = number;
+        }
+
+        /**
+         * @return symbol number in the upper and match length in the lower 32 bits, or -1 if nothing matches
+         */
+        long longestMatch(String s, int offset) {
+            long match = -1;
+            SymbolTrie node = this;
+            for (int i = offset; i < s.length(); i++) {
+                node = node.children.get(s.charAt(i));
+                if (node == null) break;
+                if (node.symbol >= 0) match = ((long) node.symbol << 32) | (i + 1 - offset);
+            }
+            return match;
+        }
+    }
+
+    /**
+     * Growable int array used while loading.
+     */
+    private static final class IntList {
+
+        private int[] values = new int[1024];
+        private int size = 0;
+
+        void add(int value) {
+            if (size == values.length) values = Arrays.copyOf(values, size << 1);
+            values[size++] = value;
+        }
+
+        int get(int i) {
+            return values[i];
+        }
+
+        int size() {
+            return size;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
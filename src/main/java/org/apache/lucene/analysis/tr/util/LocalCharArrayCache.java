@@ -0,0 +1,118 @@
+package org.apache.lucene.analysis.tr.util;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A small direct-mapped cache from char sequences to char sequences, owned by a single token stream and
+ * placed in front of a shared {@link CharArrayCache}. Lucene reuses a token stream per thread, so the
+ * cache is not thread-safe and touches no shared memory on a lookup: hashes, keys and values sit in
+ * plain arrays and hits and misses are counted in plain fields, which {@link #flush()} adds to the shared
+ * counters given at construction, typically once per document.
+ * <p>
+ * Values must not be modified after they are put in the cache.
+ */
+public final class LocalCharArrayCache {
+
+    private final int[] hashes;
+    private final char[][] keys;
+    private final char[][] values;
+    private final int mask;
+
+    private final LongAdder sharedHits;
+    private final LongAdder sharedMisses;
+    private long hits = 0;
+    private long misses = 0;
+
+    /**
+     * @param size   number of slots, rounded up to the next power of two
+     * @param hits   receives the hit count on {@link #flush()}
+     * @param misses receives the miss count on {@link #flush()}
+     */
+    public LocalCharArrayCache(int size, LongAdder hits, LongAdder misses) {
+        if (size < 1)
+            throw new IllegalArgumentException("size must be positive: " + size);
+        final int capacity = size == 1 ? 1 : Integer.highestOneBit(size - 1) << 1;
+        this.hashes = new int[capacity];
+        this.keys = new char[capacity][];
+        this.values = new char[capacity][];
+        this.mask = capacity - 1;
+        this.sharedHits = hits;
+        this.sharedMisses = misses;
+    }
+
+    /**
+     * @return the cached value for the given chars, or null if there is none
+     */
+    public char[] get(char[] buffer, int offset, int length) {
+        final int hash = CharArrayCache.hash(buffer, offset, length);
+        final int slot = hash & mask;
+        final char[] key = keys[slot];
+        if (key != null && hashes[slot] == hash && matches(key, buffer, offset, length)) {
+            hits++;
+            return values[slot];
+        }
+        misses++;
+        return null;
+    }
+
+    /**
+     * Caches the value for a copy of the given chars, evicting whatever occupied the slot.
+     */
+    public void put(char[] buffer, int offset, int length, char[] value) {
+        final int hash = CharArrayCache.hash(buffer, offset, length);
+        final int slot = hash & mask;
+        final char[] key = Arrays.copyOfRange(buffer, offset, offset + length);
+        hashes[slot] = hash;
+        keys[slot] = key;
+        values[slot] = Arrays.equals(key, value) ? key : value;
+    }
+
+    private static boolean matches(char[] key, char[] buffer, int offset, int length) {
+        if (key.length != length) return false;
+        for (int i = 0; i < length; i++) {
+            if (key[i] != buffer[offset + i]) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Adds the hits and misses counted since the last flush to the shared counters.
+     */
+    public void flush() {
+        if (hits != 0) {
+            sharedHits.add(hits);
+            hits = 0;
+        }
+        if (misses != 0) {
+            sharedMisses.add(misses);
+            misses = 0;
+        }
+    }
+
+    public int capacity() {
+        return keys.length;
+    }
+
+    @Override
+    public String toString() {
+        return "LocalCharArrayCache{capacity=" + keys.length + ", hits=" + hits + ", misses=" + misses + "}";
+    }
+}
@@ -0,0 +1,250 @@
+package org.apache.lucene.analysis.tr.util;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.IntBuffer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * <a href="https://en.wikipedia.org/wiki/Aho%E2%80%93Corasick_algorithm">Aho-Corasick</a> automaton
+ * compiled from a decision list of the deasciifier, see {@link PatternTableFactory}.
+ * A single left to right scan of a context reports the matching pattern with the smallest rank,
+ * instead of probing every substring of the context in a hash table.
+ * <p>
+ * The trie is stored in flat arrays: the children of state s are {@code childStart[s]} until
+ * {@code childStart[s + 1]}, sorted by label. {@code best[s]} holds the decision of the highest priority
+ * pattern that is a suffix of the string spelled by s, so following failure links is never needed
+ * to collect matches.
+ * <p>
+ * The arrays are written as is by {@link #write(OutputStream)}, and {@link #load(ByteBuffer)} reads them
+ * in place, so a matcher can be used straight from a memory mapped file without being rebuilt on the heap.
+ * All values are big-endian:
+ * <pre>
+ * int magic, int version, int states, int edges,
+ * int[states + 1] childStart, int[edges] childTarget, int[states] fail, int[states] best, char[edges] childLabel
+ * </pre>
+ */
+public final class PatternMatcher {
+
+    private static final int MAGIC = 0x54524441; // TRDA
+    private static final int VERSION = 1;
+    private static final int HEADER = 16;
+
+    private final IntBuffer childStart;
+    private final CharBuffer childLabel;
+    private final IntBuffer childTarget;
+    private final IntBuffer fail;
+    private final IntBuffer best;
+
+    private PatternMatcher(IntBuffer childStart, CharBuffer childLabel, IntBuffer childTarget, IntBuffer fail, IntBuffer best) {
+        this.childStart = childStart;
+        this.childLabel = childLabel;
+        this.childTarget = childTarget;
+        this.fail = fail;
+        this.best = best;
+    }
+
+    /**
+     * @param patterns decision list, the sign of a value gives the classification and its absolute value the rank
+     */
+    public static PatternMatcher compile(Map<String, Integer> patterns) {
+
+        // build the trie
+        final List<TreeMap<Character, Integer>> children = new ArrayList<>();
+        final List<Integer> own = new ArrayList<>();
+        children.add(new TreeMap<>());
+        own.add(0);
+
+        for (Map.Entry<String, Integer> entry : patterns.entrySet()) {
+            final int rank = entry.getValue();
+            if (rank == 0)
+                throw new IllegalArgumentException("rank of a pattern cannot be zero: " + entry.getKey());
+            int state = 0;
+            for (char c : entry.getKey().toCharArray()) {
+                Integer next = children.get(state).get(c);
+                if (next == null) {
+                    next = children.size();
+                    children.add(new TreeMap<>());
+                    own.add(0);
+                    children.get(state).put(c, next);
+                }
+                state = next;
+            }
+            own.set(state, higher(own.get(state), rank));
+        }
+
+        // flatten
+        final int states = children.size();
+        final int[] childStart = new int[states + 1];
+        final char[] childLabel = new char[states - 1];
+        final int[] childTarget = new int[states - 1];
+        int edge = 0;
+        for (int s = 0; s < states; s++) {
+            childStart[s] = edge;
+            for (Map.Entry<Character, Integer> e : children.get(s).entrySet()) {
+                childLabel[edge] = e.getKey();
+                childTarget[edge] = e.getValue();
+                edge++;
+            }
+        }
+        childStart[states] = edge;
+
+        // breadth first: failure links, and the best decision over the chain of suffixes
+        final int[] fail = new int[states];
+        final int[] best = new int[states];
+        final PatternMatcher matcher = new PatternMatcher(IntBuffer.wrap(childStart), CharBuffer.wrap(childLabel),
+                IntBuffer.wrap(childTarget), IntBuffer.wrap(fail), IntBuffer.wrap(best));
+        final Deque<Integer> queue = new ArrayDeque<>();
+        queue.add(0);
+
+        while (!queue.isEmpty()) {
+            final int s = queue.poll();
+            best[s] = s == 0 ? own.get(0) : higher(own.get(s), best[fail[s]]);
+
+            for (int e = childStart[s]; e < childStart[s + 1]; e++) {
+                final int t = childTarget[e];
+                if (s != 0) {
+                    int f = fail[s];
+                    int next;
+                    while ((next = matcher.child(f, childLabel[e])) < 0 && f != 0) f = fail[f];
+                    fail[t] = next < 0 ? 0 : next;
+                }
+                queue.add(t);
+            }
+        }
+
+        return matcher;
+    }
+
+    /**
+     * Reads a matcher written by {@link #write(OutputStream)}. The matcher keeps using the given buffer,
+     * which must not be modified afterwards.
+     *
+     * @throws IllegalArgumentException if the buffer does not hold a matcher
+     */
+    public static PatternMatcher load(ByteBuffer buffer) {
+        final ByteBuffer in = buffer.slice();
+        if (in.remaining() < HEADER || in.getInt(0) != MAGIC)
+            throw new IllegalArgumentException("not a pattern matcher");
+        if (in.getInt(4) != VERSION)
+            throw new IllegalArgumentException("unsupported pattern matcher version: " + in.getInt(4));
+
+        final int states = in.getInt(8);
+        final int edges = in.getInt(12);
+        if (states < 1 || edges < 0 || in.remaining() != HEADER + 4L * (states + 1 + edges + 2 * states) + 2L * edges)
+            throw new IllegalArgumentException("corrupt pattern matcher: " + states + " states, " + edges + " edges");
+
+        int offset = HEADER;
+        final IntBuffer childStart = ints(in, offset, states + 1);
+        offset += 4 * (states + 1);
+        final IntBuffer childTarget = ints(in, offset, edges);
+        offset += 4 * edges;
+        final IntBuffer fail = ints(in, offset, states);
+        offset += 4 * states;
+        final IntBuffer best = ints(in, offset, states);
+        offset += 4 * states;
+        ((Buffer) in).position(offset);
+        final CharBuffer childLabel = in.slice().asCharBuffer();
+
+        return new PatternMatcher(childStart, childLabel, childTarget, fail, best);
+    }
+
+    private static IntBuffer ints(ByteBuffer in, int offset, int count) {
+        // cast for Java 8, where Buffer methods are not overridden covariantly
+        ((Buffer) in).limit(offset + 4 * count);
+        ((Buffer) in).position(offset);
+        final IntBuffer ints = in.slice().asIntBuffer();
+        ((Buffer) in).limit(in.capacity());
+        return ints;
+    }
+
+    /**
+     * Writes this matcher in the format read by {@link #load(ByteBuffer)}.
+     */
+    public void write(OutputStream stream) throws IOException {
+        final DataOutputStream out = new DataOutputStream(new BufferedOutputStream(stream));
+        final int states = fail.limit();
+        final int edges = childLabel.limit();
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeInt(states);
+        out.writeInt(edges);
+        for (int i = 0; i <= states; i++) out.writeInt(childStart.get(i));
+        for (int i = 0; i < edges; i++) out.writeInt(childTarget.get(i));
+        for (int i = 0; i < states; i++) out.writeInt(fail.get(i));
+        for (int i = 0; i < states; i++) out.writeInt(best.get(i));
+        for (int i = 0; i < edges; i++) out.writeChar(childLabel.get(i));
+        out.flush();
+    }
+
+    /**
+     * @return the decision with the smaller rank, zero meaning no decision
+     */
+    private static int higher(int a, int b) {
+        if (a == 0) return b;
+        if (b == 0) return a;
+        return Math.abs(a) <= Math.abs(b) ? a : b;
+    }
+
+    private int child(int state, char c) {
+        int lo = childStart.get(state);
+        int hi = childStart.get(state + 1) - 1;
+        while (lo <= hi) {
+            final int mid = (lo + hi) >>> 1;
+            final char label = childLabel.get(mid);
+            if (label < c) lo = mid + 1;
+            else if (label > c) hi = mid - 1;
+            else return childTarget.get(mid);
+        }
+        return -1;
+    }
+
+    /**
+     * Scans the text once.
+     *
+     * @return the signed rank of the highest priority pattern occurring in the text, or zero if none occurs
+     */
+    public int match(char[] text, int offset, int length) {
+        int state = 0;
+        int decision = 0;
+        for (int i = offset, end = offset + length; i < end; i++) {
+            final char c = text[i];
+            int next;
+            while ((next = child(state, c)) < 0 && state != 0) state = fail.get(state);
+            state = next < 0 ? 0 : next;
+            decision = higher(decision, best.get(state));
+        }
+        return decision;
+    }
+
+    public int stateCount() {
+        return fail.limit();
+    }
+}
@@ -17,15 +17,23 @@ package org.apache.lucene.analysis.tr.util;
  * limitations under the License.
  */
 
-import org.apache.lucene.analysis.CharArrayMap;
-
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
 /**
- * Compiles a decision list into a hash where keys are patterns and
- * values give the rank and the classification of the decision list.  The
+ * Character tables of the deasciifier, and its decision lists compiled into {@link PatternMatcher}s.
+ * In a decision list, keys are patterns and values give the rank and the classification.  The
  * sign of a value gives the classification (positive implies t, negative
  * implies nil), and the absolute value gives the rank (smaller rank
  * means higher priority).
@@ -251,25 +259,104 @@ public final class PatternTableFactory {
                     }}
             );
 
-    static final boolean ignoreCase = false;
+    /*
+     * The tables above indexed by code unit, for the hot path of the filter. An absent key maps to zero.
+     */
+    public static final char[] turkish_asciify_chars = toChars(turkish_asciify_table);
+    public static final char[] turkish_downcase_asciify_chars = toChars(turkish_downcase_asciify_table);
+    public static final char[] turkish_upcase_accents_chars = toChars(turkish_upcase_accents_table);
+    public static final char[] turkish_toggle_accent_chars = toChars(turkish_toggle_accent_table);
+
+    private static char[] toChars(Map<Character, Character> table) {
+        char max = 0;
+        for (char c : table.keySet()) {
+            if (c > max) max = c;
+        }
+        final char[] chars = new char[max + 1];
+        for (Map.Entry<Character, Character> entry : table.entrySet()) {
+            chars[entry.getKey()] = entry.getValue();
+        }
+        return chars;
+    }
+
+    /**
+     * @return the value of the given character in the table, or zero if it has none
+     */
+    public static char lookup(char[] table, char c) {
+        return c < table.length ? table[c] : 0;
+    }
 
     private PatternTableFactory() {
     }
 
-    public static CharArrayMap<Integer> getMap(char c) {
+    /**
+     * @return name of the resource holding the compiled decision list of the given lowercase character,
+     * written at build time by {@code org.apache.lucene.App}
+     */
+    public static String resourceName(char c) {
+        return "patterns-" + c + ".bin";
+    }
+
+    /**
+     * Decision lists are loaded on first use. A resource on the file system is memory mapped,
+     * one inside a jar is read into a direct buffer; either way it stays off the heap.
+     */
+    private static final class Matchers {
+        static final PatternMatcher C = load('c');
+        static final PatternMatcher G = load('g');
+        static final PatternMatcher I = load('i');
+        static final PatternMatcher O = load('o');
+        static final PatternMatcher S = load('s');
+        static final PatternMatcher U = load('u');
+
+        private static PatternMatcher load(char c) {
+            final String name = resourceName(c);
+            final URL url = PatternTableFactory.class.getResource(name);
+            if (url == null)
+                throw new IllegalStateException("cannot find deasciifier pattern table " + name);
+            try {
+                return PatternMatcher.load(read(url));
+            } catch (IOException | URISyntaxException e) {
+                throw new IllegalStateException("cannot load deasciifier pattern table " + name, e);
+            }
+        }
+
+        private static ByteBuffer read(URL url) throws IOException, URISyntaxException {
+            if ("file".equals(url.getProtocol())) {
+                try (FileChannel channel = FileChannel.open(Paths.get(url.toURI()), StandardOpenOption.READ)) {
+                    return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                }
+            }
+
+            final ByteArrayOutputStream bytes = new ByteArrayOutputStream(1 << 16);
+            try (InputStream in = url.openStream()) {
+                final byte[] chunk = new byte[8192];
+                int n;
+                while ((n = in.read(chunk)) != -1) {
+                    bytes.write(chunk, 0, n);
+                }
+            }
+            final ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.size());
+            buffer.put(bytes.toByteArray());
+            ((Buffer) buffer).flip();
+            return buffer;
+        }
+    }
+
+    public static PatternMatcher getMatcher(char c) {
         switch (c) {
             case 'c':
-                return MapC.map;
+                return Matchers.C;
             case 'g':
-                return MapG.map;
+                return Matchers.G;
             case 'i':
-                return MapI.map;
+                return Matchers.I;
             case 'o':
-                return MapO.map;
+                return Matchers.O;
             case 's':
-                return MapS.map;
+                return Matchers.S;
             case 'u':
-                return MapU.map;
+                return Matchers.U;
             default:
                 return null;
         }
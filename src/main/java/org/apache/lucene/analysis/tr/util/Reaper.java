@@ -0,0 +1,97 @@
+package org.apache.lucene.analysis.tr.util;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.ref.PhantomReference;
+import java.lang.ref.ReferenceQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Runs a cleanup action once its owner has become unreachable, or when the JVM shuts down, whichever comes
+ * first; a stand-in for {@code java.lang.ref.Cleaner} on Java 8. Solr does not close token filter factories
+ * when a core is reloaded, so resources they own, such as external processes or shared morphologies, are
+ * released this way instead of relying on {@link java.io.Closeable#close()}.
+ * <p>
+ * The action must not refer to the owner, otherwise the owner never becomes unreachable.
+ */
+public final class Reaper {
+
+    private static final Logger log = LoggerFactory.getLogger(Reaper.class);
+
+    private static final ReferenceQueue<Object> queue = new ReferenceQueue<>();
+    // keeps the references themselves reachable until they are enqueued
+    private static final Set<Cleanable> pending = ConcurrentHashMap.newKeySet();
+
+    static {
+        final Thread reaper = new Thread(() -> {
+            while (true) {
+                try {
+                    ((Cleanable) queue.remove()).clean();
+                } catch (InterruptedException e) {
+                    return;
+                } catch (RuntimeException e) {
+                    log.warn("cleanup action failed", e);
+                }
+            }
+        }, "tr-reaper");
+        reaper.setDaemon(true);
+        reaper.start();
+
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            for (Cleanable cleanable : pending.toArray(new Cleanable[0])) {
+                cleanable.clean();
+            }
+        }, "tr-reaper-shutdown"));
+    }
+
+    private Reaper() {
+    }
+
+    /**
+     * @return a handle that runs the action at most once, either explicitly or when the owner is collected
+     */
+    public static Cleanable register(Object owner, Runnable action) {
+        final Cleanable cleanable = new Cleanable(owner, action);
+        pending.add(cleanable);
+        return cleanable;
+    }
+
+    public static final class Cleanable extends PhantomReference<Object> {
+
+        private final Runnable action;
+
+        private Cleanable(Object owner, Runnable action) {
+            super(owner, queue);
+            this.action = action;
+        }
+
+        /**
+         * Runs the action unless it has already run, and unregisters it.
+         */
+        public void clean() {
+            if (pending.remove(this)) {
+                clear();
+                action.run();
+            }
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package org.apache.lucene.tr;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import MorphologicalAnalysis.FsmParse;
+import MorphologicalAnalysis.FsmParseList;
+import MorphologicalDisambiguation.MorphologicalDisambiguator;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.Tokenizer;
+import org.apache.lucene.analysis.standard.StandardTokenizer;
+import org.apache.lucene.analysis.tr.DilbazStemFilter;
+import org.apache.lucene.analysis.tr.DilbazStemFilterFactory;
+import org.apache.lucene.analysis.tr.util.ConcurrentLRUCache;
+import org.apache.lucene.tests.analysis.BaseTokenStreamTestCase;
+import org.apache.lucene.util.ClasspathResourceLoader;
+import org.junit.Test;
+
+import java.io.StringReader;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Simple tests to ensure the Dilbaz stem filter factory is working.
+ */
+public class TestDilbazStemFilter extends BaseTokenStreamTestCase {
+
+    @Test
+    public void testSomeWords() throws Exception {
+        DilbazStemFilterFactory factory = new DilbazStemFilterFactory(new HashMap<>());
+        factory.inform(new ClasspathResourceLoader(getClass()));
+        for (int i = 0; i < 2; i++) {
+            TokenStream stream = factory.create(whitespaceMockTokenizer("kitaplar kalemler"));
+            assertTokenStreamContents(stream, new String[]{"kitap", "kalem"});
+        }
+        assertEquals(2, factory.getCache().hitCount());
+    }
+
+    @Test
+    public void testWindow() throws Exception {
+        Map<String, String> args = new HashMap<>();
+        args.put("disambiguator", "longestRootFirst");
+        args.put("window", "2");
+        DilbazStemFilterFactory factory = new DilbazStemFilterFactory(args);
+        factory.inform(new ClasspathResourceLoader(getClass()));
+        TokenStream stream = factory.create(whitespaceMockTokenizer("kitaplar kalemler kitaplar"));
+        assertTokenStreamContents(stream, new String[]{"kitap", "kalem", "kitap"});
+    }
+
+    @Test
+    public void testOneDisambiguationPerWindow() throws Exception {
+        CountingDisambiguator disambiguator = new CountingDisambiguator();
+        TokenStream stream = new DilbazStemFilter(whitespaceMockTokenizer("kitaplar kalemler kitaplar"), null, disambiguator, 2);
+        assertTokenStreamContents(stream, new String[]{"kitap", "kalem", "kitap"});
+        assertEquals(2, disambiguator.calls);
+
+        // the tokenizer drops the full stop, the gap it leaves still ends the sentence
+        disambiguator = new CountingDisambiguator();
+        Tokenizer tokenizer = new StandardTokenizer();
+        tokenizer.setReader(new StringReader("kitaplar kalemler. kitaplar kalemler"));
+        stream = new DilbazStemFilter(tokenizer, null, disambiguator, 64);
+        assertTokenStreamContents(stream, new String[]{"kitap", "kalem", "kitap", "kalem"});
+        assertEquals(2, disambiguator.calls);
+    }
+
+    @Test
+    public void testDisambiguatorDoesNotModifyCache() throws Exception {
+        ConcurrentLRUCache<String, FsmParseList> cache = new ConcurrentLRUCache<>(16);
+        TokenStream stream = new DilbazStemFilter(whitespaceMockTokenizer("kitaplar kitaplar"), cache, new EmptyingDisambiguator());
+        assertTokenStreamContents(stream, new String[]{"kitap", "kitap"});
+        assertTrue(cache.get("kitaplar").size() > 0);
+
+        stream = new DilbazStemFilter(whitespaceMockTokenizer("kitaplar kalemler kitaplar"), cache, new EmptyingDisambiguator(), 64);
+        assertTokenStreamContents(stream, new String[]{"kitap", "kalem", "kitap"});
+        assertTrue(cache.get("kitaplar").size() > 0);
+        assertTrue(cache.get("kalemler").size() > 0);
+    }
+
+    /**
+     * Narrows every list it is given to nothing, as context-based disambiguators narrow them in place.
+     */
+    private static final class EmptyingDisambiguator implements MorphologicalDisambiguator {
+
+        @Override
+        public List<FsmParse> disambiguate(FsmParseList[] fsmParses) {
+            for (FsmParseList parses : fsmParses)
+                parses.reduceToParsesWithSameRoot("");
+            return null;
+        }
+
+        @Override
+        public void loadModel() {
+        }
+    }
+
+    private static final class CountingDisambiguator implements MorphologicalDisambiguator {
+
+        int calls;
+
+        @Override
+        public List<FsmParse> disambiguate(FsmParseList[] fsmParses) {
+            calls++;
+            // falls back to the parse with the longest root
+            return null;
+        }
+
+        @Override
+        public void loadModel() {
+        }
+    }
+
+    @Test
+    public void testInvalidCacheSize() throws Exception {
+        Map<String, String> args = new HashMap<>();
+        args.put("cacheSize", "-1");
+        expectThrows(IllegalArgumentException.class, () -> new DilbazStemFilterFactory(args));
+    }
+}
@@ -0,0 +1,204 @@
+package org.apache.lucene.tr;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.tr.TRMorphStemFilterFactory;
+import org.apache.lucene.tests.analysis.BaseTokenStreamTestCase;
+import org.apache.lucene.util.Constants;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Tests TRmorph stem filter against a shell script standing in for foma's flookup.
+ */
+public class TestTRMorphStemFilter extends BaseTokenStreamTestCase {
+
+    /**
+     * Answers every word like flookup does, stripping a plural suffix if there is one.
+     */
+    private static final String FLOOKUP =
+            "#!/bin/sh\n" +
+                    "while IFS= read -r w; do\n" +
+                    "  case \"$w\" in\n" +
+                    "    *lar|*ler) printf '%s\\t%s<N><pl>\\n\\n' \"$w\" \"${w%???}\" ;;\n" +
+                    "    *) printf '%s\\t%s+?\\n\\n' \"$w\" \"$w\" ;;\n" +
+                    "  esac\n" +
+                    "done\n";
+
+    /**
+     * Answers a single word and exits, so that every lookup needs a fresh process.
+     */
+    private static final String FLOOKUP_ONCE =
+            "#!/bin/sh\n" +
+                    "IFS= read -r w\n" +
+                    "printf '%s\\t%s<N>\\n\\n' \"$w\" \"${w%???}\"\n";
+
+    /**
+     * Reads a word and never answers, like a flookup process that hangs.
+     */
+    private static final String FLOOKUP_HUNG =
+            "#!/bin/sh\n" +
+                    "IFS= read -r w\n" +
+                    "exec sleep 60\n";
+
+    /**
+     * A foma network that analyses ev as ev&lt;N&gt; and evler as ev&lt;N&gt;&lt;pl&gt;, in foma's binary file format.
+     */
+    private static final String NET =
+            "##foma-net 1.0##\n" +
+                    "##props##\n" +
+                    "2 6 7 7 2 2 1 0 1 0 1 0 test\n" +
+                    "##sigma##\n" +
+                    "0 @_EPSILON_SYMBOL_@\n" +
+                    "3 e\n" +
+                    "4 v\n" +
+                    "5 l\n" +
+                    "6 r\n" +
+                    "7 <N>\n" +
+                    "8 <pl>\n" +
+                    "##states##\n" +
+                    "0 3 1 0\n" +
+                    "1 4 2 0\n" +
+                    "2 7 0 3 0\n" +
+                    "3 8 5 4 1\n" +
+                    "4 0 3 5 0\n" +
+                    "5 0 6 6 0\n" +
+                    "6 -1 -1 1\n" +
+                    "-1 -1 -1 -1 -1\n" +
+                    "##end##\n";
+
+    private TRMorphStemFilterFactory factory(String script) throws IOException {
+        return factory(script, new HashMap<>());
+    }
+
+    private TRMorphStemFilterFactory factory(String script, Map<String, String> args) throws IOException {
+        assumeFalse("requires a POSIX shell", Constants.WINDOWS);
+
+        Path dir = createTempDir();
+        Path lookup = dir.resolve("flookup");
+        Files.write(lookup, script.getBytes(StandardCharsets.UTF_8));
+        assertTrue(lookup.toFile().setExecutable(true));
+        Path fst = Files.createFile(dir.resolve("stem.fst"));
+
+        args.put("lookup", lookup.toAbsolutePath().toString());
+        args.put("fst", fst.toAbsolutePath().toString());
+        return new TRMorphStemFilterFactory(args);
+    }
+
+    @Test
+    public void testPersistentProcess() throws Exception {
+        Map<String, String> args = new HashMap<>();
+        args.put("cache", "none");
+        TRMorphStemFilterFactory factory = factory(FLOOKUP, args);
+        try {
+            for (int i = 0; i < 3; i++) {
+                TokenStream stream = factory.create(whitespaceMockTokenizer("kitaplar evler euro"));
+                assertTokenStreamContents(stream, new String[]{"kitap", "ev", "euro"});
+            }
+        } finally {
+            factory.close();
+        }
+    }
+
+    @Test
+    public void testBatch() throws Exception {
+        Map<String, String> args = new HashMap<>();
+        args.put("batchSize", "3");
+        TRMorphStemFilterFactory factory = factory(FLOOKUP, args);
+        try {
+            TokenStream stream = factory.create(whitespaceMockTokenizer("kitaplar evler euro kitaplar gemiler evler ev"));
+            assertTokenStreamContents(stream,
+                    new String[]{"kitap", "ev", "euro", "kitap", "gemi", "ev", "ev"},
+                    new int[]{0, 9, 15, 20, 29, 37, 43},
+                    new int[]{8, 14, 19, 28, 36, 42, 45});
+        } finally {
+            factory.close();
+        }
+    }
+
+    @Test
+    public void testHungProcess() throws Exception {
+        Map<String, String> args = new HashMap<>();
+        args.put("timeout", "200");
+        TRMorphStemFilterFactory factory = factory(FLOOKUP_HUNG, args);
+        try {
+            TokenStream stream = factory.create(whitespaceMockTokenizer("kitaplar"));
+            stream.reset();
+            IOException e = expectThrows(IOException.class, stream::incrementToken);
+            assertTrue(e.getMessage(), e.getMessage().contains("did not answer"));
+        } finally {
+            factory.close();
+        }
+    }
+
+    @Test
+    public void testCache() throws Exception {
+        Map<String, String> args = new HashMap<>();
+        args.put("batchSize", "2");
+        TRMorphStemFilterFactory factory = factory(FLOOKUP, args);
+        try {
+            TokenStream stream = factory.create(whitespaceMockTokenizer("kitaplar evler kitaplar evler euro"));
+            assertTokenStreamContents(stream, new String[]{"kitap", "ev", "kitap", "ev", "euro"});
+            assertEquals(2, factory.getCache().hitCount());
+            assertEquals(3, factory.getCache().missCount());
+        } finally {
+            factory.close();
+        }
+    }
+
+    @Test
+    public void testInProcess() throws Exception {
+        Path fst = createTempDir().resolve("stem.fst");
+        try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(fst))) {
+            out.write(NET.getBytes(StandardCharsets.UTF_8));
+        }
+
+        Map<String, String> args = new HashMap<>();
+        args.put("mode", "inprocess");
+        args.put("fst", fst.toAbsolutePath().toString());
+        TRMorphStemFilterFactory factory = new TRMorphStemFilterFactory(args);
+
+        TokenStream stream = factory.create(whitespaceMockTokenizer("evler ev kitaplar"));
+        assertTokenStreamContents(stream, new String[]{"ev", "ev", "kitaplar"});
+
+        args.put("mode", "inprocess");
+        args.put("fst", fst.toAbsolutePath().toString());
+        args.put("batchSize", "64");
+        expectThrows(IllegalArgumentException.class, () -> new TRMorphStemFilterFactory(args));
+    }
+
+    @Test
+    public void testRestartOnCrash() throws Exception {
+        TRMorphStemFilterFactory factory = factory(FLOOKUP_ONCE);
+        try {
+            TokenStream stream = factory.create(whitespaceMockTokenizer("kitaplar evler gemiler"));
+            assertTokenStreamContents(stream, new String[]{"kitap", "ev", "gemi"});
+        } finally {
+            factory.close();
+        }
+    }
+}
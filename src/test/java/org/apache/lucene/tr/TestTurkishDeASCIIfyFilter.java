@@ -20,6 +20,7 @@ package org.apache.lucene.tr;
 import org.apache.lucene.tests.analysis.BaseTokenStreamTestCase;
 import org.apache.lucene.analysis.TokenStream;
 import org.apache.lucene.analysis.tr.TurkishDeASCIIfyFilter;
+import org.apache.lucene.analysis.tr.util.CharArrayCache;
 import org.junit.Test;
 
 /**
@@ -54,4 +55,21 @@ public class TestTurkishDeASCIIfyFilter extends BaseTokenStreamTestCase {
                 "izmir"
         });
     }
+
+    @Test
+    public void testCache() throws Exception {
+        CharArrayCache cache = new CharArrayCache(64);
+        for (int i = 0; i < 2; i++) {
+            TokenStream stream = whitespaceMockTokenizer("kus fadil kus ahmet izmir");
+            stream = new TurkishDeASCIIfyFilter(stream, true, cache);
+            assertTokenStreamContents(stream, new String[]{
+                    "kuş", "kus",
+                    "fadıl", "fadil",
+                    "kuş", "kus",
+                    "ahmet",
+                    "izmir"
+            });
+        }
+        assertTrue(cache.hitCount() >= 6);
+    }
 }
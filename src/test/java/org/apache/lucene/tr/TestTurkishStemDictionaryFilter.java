@@ -0,0 +1,117 @@
+package org.apache.lucene.tr;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.tr.StemTable;
+import org.apache.lucene.analysis.tr.TurkishStemDictionaryFilterFactory;
+import org.apache.lucene.index.CorruptIndexException;
+import org.apache.lucene.tests.analysis.BaseTokenStreamTestCase;
+import org.apache.lucene.util.ResourceLoader;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Simple tests to ensure the stem dictionary filter factory is working.
+ */
+public class TestTurkishStemDictionaryFilter extends BaseTokenStreamTestCase {
+
+    private static final ResourceLoader LOADER = new ResourceLoader() {
+        @Override
+        public InputStream openResource(String resource) {
+            return new ByteArrayInputStream("kitaplar\tkitap\nkalemler\tkalem\n# comment\n".getBytes(StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public <T> Class<? extends T> findClass(String cname, Class<T> expectedType) {
+            throw new UnsupportedOperationException(cname);
+        }
+    };
+
+    private static TurkishStemDictionaryFilterFactory factory(boolean fallback) throws Exception {
+        Map<String, String> args = new HashMap<>();
+        args.put("dictionary", "stems.tsv");
+        args.put("fallback", Boolean.toString(fallback));
+        TurkishStemDictionaryFilterFactory factory = new TurkishStemDictionaryFilterFactory(args);
+        factory.inform(LOADER);
+        return factory;
+    }
+
+    @Test
+    public void testDictionary() throws Exception {
+        TokenStream stream = factory(false).create(whitespaceMockTokenizer("kitaplar kalemler ortaklar"));
+        assertTokenStreamContents(stream, new String[]{"kitap", "kalem", "ortaklar"});
+    }
+
+    @Test
+    public void testFallback() throws Exception {
+        TokenStream stream = factory(true).create(whitespaceMockTokenizer("kitaplar kalemler ortaklar"));
+        assertTokenStreamContents(stream, new String[]{"kitap", "kalem", "ortak"});
+    }
+
+    @Test
+    public void testFallbackOptionsRequireFallback() throws Exception {
+        Map<String, String> args = new HashMap<>();
+        args.put("dictionary", "stems.tsv");
+        args.put("informal", "true");
+        expectThrows(IllegalArgumentException.class, () -> new TurkishStemDictionaryFilterFactory(args));
+    }
+
+    @Test
+    public void testTable() throws Exception {
+        Path dir = createTempDir();
+        Path tsv = dir.resolve("stems.tsv");
+        Files.write(tsv, "kitaplar\tkitap\nkalemler\tkalem\nkitaplar\tkitaplar\n".getBytes(StandardCharsets.UTF_8));
+        Path fst = dir.resolve("stems.fst");
+        assertEquals(2, StemTable.compile(tsv, fst, false));
+        assertSame(StemTable.open(fst), StemTable.open(fst));
+
+        Map<String, String> args = new HashMap<>();
+        args.put("table", fst.toString());
+        TurkishStemDictionaryFilterFactory factory = new TurkishStemDictionaryFilterFactory(args);
+        factory.inform(LOADER);
+        TokenStream stream = factory.create(whitespaceMockTokenizer("kitaplar kalemler ortaklar"));
+        assertTokenStreamContents(stream, new String[]{"kitap", "kalem", "ortaklar"});
+
+        args.put("table", fst.toString());
+        args.put("ignoreCase", "true");
+        expectThrows(IllegalArgumentException.class, () -> new TurkishStemDictionaryFilterFactory(args));
+    }
+
+    @Test
+    public void testCorruptTable() throws Exception {
+        Path dir = createTempDir();
+        Path tsv = dir.resolve("stems.tsv");
+        Files.write(tsv, "kitaplar\tkitap\nkalemler\tkalem\n".getBytes(StandardCharsets.UTF_8));
+        Path fst = dir.resolve("stems.fst");
+        StemTable.compile(tsv, fst, false);
+
+        byte[] bytes = Files.readAllBytes(fst);
+        bytes[bytes.length / 2] ^= 1;
+        Path corrupt = dir.resolve("corrupt.fst");
+        Files.write(corrupt, bytes);
+        expectThrows(CorruptIndexException.class, () -> StemTable.open(corrupt));
+    }
+}
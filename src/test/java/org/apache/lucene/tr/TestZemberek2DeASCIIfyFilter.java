@@ -0,0 +1,80 @@
+package org.apache.lucene.tr;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.tr.Zemberek2DeASCIIfyFilterFactory;
+import org.apache.lucene.tests.analysis.BaseTokenStreamTestCase;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Simple tests to ensure the Zemberek2 deASCIIfy filter factory is working.
+ */
+public class TestZemberek2DeASCIIfyFilter extends BaseTokenStreamTestCase {
+
+    private static final String W = "word";
+    private static final String D = "<DEASCII>";
+
+    private static Zemberek2DeASCIIfyFilterFactory factory(int maxExpansions, int cacheSize) {
+        Map<String, String> args = new HashMap<>();
+        args.put("maxExpansions", Integer.toString(maxExpansions));
+        args.put("cacheSize", Integer.toString(cacheSize));
+        return new Zemberek2DeASCIIfyFilterFactory(args);
+    }
+
+    @Test
+    public void testSynonyms() throws Exception {
+        // küs is found twice and kept once; ortaklar has no other form, and izmir no analysis at all
+        TokenStream stream = factory(0, 0).create(whitespaceMockTokenizer("kus masali ortaklar izmir"));
+        assertTokenStreamContents(stream,
+                new String[]{"kus", "kuş", "küs", "masali", "masalı", "maşalı", "ortaklar", "izmir"},
+                null, null,
+                new String[]{W, D, D, W, D, D, W, W},
+                new int[]{1, 0, 0, 1, 0, 0, 1, 1});
+    }
+
+    @Test
+    public void testMaxExpansions() throws Exception {
+        TokenStream stream = factory(1, 0).create(whitespaceMockTokenizer("kus masali ortaklar izmir"));
+        assertTokenStreamContents(stream,
+                new String[]{"kus", "kuş", "masali", "masalı", "ortaklar", "izmir"},
+                null, null,
+                new String[]{W, D, W, D, W, W},
+                new int[]{1, 0, 1, 0, 1, 1});
+    }
+
+    @Test
+    public void testCache() throws Exception {
+        Zemberek2DeASCIIfyFilterFactory factory = factory(0, 16);
+        for (int i = 0; i < 2; i++) {
+            TokenStream stream = factory.create(whitespaceMockTokenizer("kus izmir kus"));
+            assertTokenStreamContents(stream, new String[]{"kus", "kuş", "küs", "izmir", "kus", "kuş", "küs"});
+        }
+        // words without candidates are cached too
+        assertEquals(2, factory.getCache().missCount());
+        assertEquals(4, factory.getCache().hitCount());
+    }
+
+    @Test
+    public void testInvalidMaxExpansions() throws Exception {
+        expectThrows(IllegalArgumentException.class, () -> factory(-1, 0));
+    }
+}
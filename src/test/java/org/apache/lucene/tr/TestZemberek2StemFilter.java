@@ -0,0 +1,78 @@
+package org.apache.lucene.tr;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.tr.StemCache;
+import org.apache.lucene.analysis.tr.Zemberek2StemFilterFactory;
+import org.apache.lucene.tests.analysis.BaseTokenStreamTestCase;
+import org.apache.lucene.util.ClasspathResourceLoader;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Simple tests to ensure the Zemberek2 stem filter factory is working.
+ */
+public class TestZemberek2StemFilter extends BaseTokenStreamTestCase {
+
+    private Zemberek2StemFilterFactory factory(String cache) throws Exception {
+        Map<String, String> args = new HashMap<>();
+        args.put("cache", cache);
+        Zemberek2StemFilterFactory factory = new Zemberek2StemFilterFactory(args);
+        factory.inform(new ClasspathResourceLoader(getClass()));
+        return factory;
+    }
+
+    @Test
+    public void testSomeWords() throws Exception {
+        TokenStream stream = factory("lru").create(whitespaceMockTokenizer("kitaplar kalemler ortaklar xqwzt"));
+        assertTokenStreamContents(stream, new String[]{"kitap", "kalem", "ortak", "xqwzt"});
+    }
+
+    @Test
+    public void testCache() throws Exception {
+        Zemberek2StemFilterFactory factory = factory("lru");
+        TokenStream stream = factory.create(whitespaceMockTokenizer("kitaplar xqwzt kitaplar xqwzt"));
+        assertTokenStreamContents(stream, new String[]{"kitap", "xqwzt", "kitap", "xqwzt"});
+        assertEquals(2, factory.getCache().missCount());
+        assertEquals(2, factory.getCache().hitCount());
+        assertEquals(2, factory.getCache().size());
+        // a word without analysis is cached as itself
+        assertEquals("xqwzt", factory.getCache().get("xqwzt"));
+    }
+
+    @Test
+    public void testCacheTypes() throws Exception {
+        Zemberek2StemFilterFactory factory = factory("static");
+        assertTrue(factory.getCache() instanceof StemCache.Static);
+        TokenStream stream = factory.create(whitespaceMockTokenizer("kitaplar kitaplar"));
+        assertTokenStreamContents(stream, new String[]{"kitap", "kitap"});
+        assertEquals(1, factory.getCache().hitCount());
+
+        factory = factory("none");
+        assertTrue(factory.getCache() instanceof StemCache.None);
+        stream = factory.create(whitespaceMockTokenizer("kitaplar kitaplar"));
+        assertTokenStreamContents(stream, new String[]{"kitap", "kitap"});
+        assertEquals(0, factory.getCache().hitCount());
+        assertEquals(0, factory.getCache().size());
+
+        expectThrows(IllegalArgumentException.class, () -> factory("fifo"));
+    }
+}
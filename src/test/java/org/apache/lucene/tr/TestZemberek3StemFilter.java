@@ -6,15 +6,34 @@ import org.apache.lucene.analysis.TokenStream;
 import org.apache.lucene.analysis.custom.CustomAnalyzer;
 import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
 import org.apache.lucene.analysis.tr.MyTurkishMorphology;
+import org.apache.lucene.analysis.tr.StemTableGenerator;
 import org.apache.lucene.analysis.tr.TurkishLowerCaseFilter;
 import org.apache.lucene.analysis.tr.Zemberek3StemFilter;
 import org.apache.lucene.analysis.tr.Zemberek3StemFilterFactory;
+import org.apache.lucene.analysis.tr.util.CharArrayCache;
+import org.apache.lucene.analysis.tr.util.LocalCharArrayCache;
+import org.apache.lucene.util.ClasspathResourceLoader;
+import org.apache.lucene.util.ResourceLoader;
 import org.junit.Test;
+import zemberek.morphology.analysis.WordAnalysis;
+import zemberek.morphology.lexicon.DictionarySerializer;
+import zemberek.morphology.lexicon.RootLexicon;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
 
 public class TestZemberek3StemFilter extends BaseTokenStreamTestCase {
 
@@ -34,6 +53,219 @@ public class TestZemberek3StemFilter extends BaseTokenStreamTestCase {
         assertTokenStreamContents(stream, new String[]{"kuku", "euro"});
     }
 
+    @Test
+    public void testAnalysisCache() throws Exception {
+        final long hits = morphology.getCache().hitCount();
+        assertSame(morphology.analyze("kitaplarımız"), morphology.analyze("kitaplarımız"));
+        assertTrue(morphology.getCache().hitCount() > hits);
+
+        MyTurkishMorphology uncached = MyTurkishMorphology.builder(morphology.getLexicon()).disableCache().build();
+        assertNull(uncached.getCache());
+        assertEquals(morphology.analyze("kitaplarımız").analysisCount(), uncached.analyze("kitaplarımız").analysisCount());
+    }
+
+    @Test
+    public void testAnalysisCounters() throws Exception {
+        MyTurkishMorphology uncached = MyTurkishMorphology.builder(morphology.getLexicon()).disableCache().build();
+        uncached.analyze("kitaplar");
+        uncached.analyze("xqwzt");
+        uncached.analyze("");
+        assertEquals(3, uncached.analyzedCount());
+        assertEquals(1, uncached.unknownCount());
+        assertEquals(1, uncached.emptyCount());
+        assertEquals(1.0 / 3, uncached.unknownRate(), 1e-9);
+    }
+
+    @Test
+    public void testWarmUpNotCounted() throws Exception {
+        MyTurkishMorphology warmed = MyTurkishMorphology.builder(morphology.getLexicon()).setStaticCacheSize(100).build();
+        assertEquals(0, warmed.analyzedCount());
+        assertEquals(0, warmed.unknownCount());
+        assertEquals(0, warmed.emptyCount());
+    }
+
+    @Test
+    public void testMetrics() throws Exception {
+        Map<String, String> args = new HashMap<>();
+        args.put("cacheSize", "11");
+        Zemberek3StemFilterFactory factory = new Zemberek3StemFilterFactory(args);
+        factory.inform(new ClasspathResourceLoader(getClass()));
+        assertTokenStreamContents(factory.create(whitespaceMockTokenizer("xqwzt")), new String[]{"xqwzt"});
+        Map<String, Number> metrics = factory.getMetrics();
+        assertEquals(factory.getMorphology().analyzedCount(), metrics.get("analyzed"));
+        assertTrue(metrics.get("unknown").longValue() >= 1);
+        assertTrue(metrics.containsKey("stemCacheHits"));
+    }
+
+    @Test
+    public void testUnknownCache() throws Exception {
+        MyTurkishMorphology cached = MyTurkishMorphology.builder(morphology.getLexicon())
+                .setCacheSize(10).setUnknownCacheSize(10).build();
+        assertSame(cached.analyze("xqwzt"), cached.analyze("xqwzt"));
+        assertEquals(1, cached.analyzedCount());
+        assertEquals(1, cached.getUnknownCache().hitCount());
+        // the repeated unknown word is answered before the analysis cache is consulted
+        assertEquals(1, cached.getCache().missCount());
+        assertEquals(0, cached.getCache().size());
+    }
+
+    @Test
+    public void testUnknownCacheKeepsHotWords() throws Exception {
+        MyTurkishMorphology cached = MyTurkishMorphology.builder(morphology.getLexicon())
+                .setCacheSize(10).setUnknownCacheSize(2).build();
+        for (char c = 'a'; c < 'k'; c++) {
+            cached.analyze("xqwzt");
+            cached.analyze("qq" + c + "zx");
+        }
+        // ten distinct unknown words went through a cache of two, the repeated one was analyzed once
+        assertEquals(11, cached.analyzedCount());
+        assertEquals(9, cached.getUnknownCache().hitCount());
+        assertEquals(2, cached.getUnknownCache().size());
+    }
+
+    @Test
+    public void testAnalyzeAll() throws Exception {
+        MyTurkishMorphology uncached = MyTurkishMorphology.builder(morphology.getLexicon()).disableCache().build();
+        Map<String, WordAnalysis> analyses = uncached.analyzeAll(Arrays.asList("kitaplar", "kalemler", "kitaplar", "xqwzt"));
+        assertEquals(3, analyses.size());
+        assertEquals(3, uncached.analyzedCount());
+        assertEquals(0, analyses.get("xqwzt").analysisCount());
+
+        Map<String, String> stems = StemTableGenerator.stems(morphology, new Zemberek3StemFilter.Stemmer("minMorpheme", "lemmas", "maxLength"),
+                Stream.of("kitaplar", "kuku", "kitaplar"), ForkJoinPool.commonPool());
+        assertEquals(2, stems.size());
+        assertEquals("kitap", stems.get("kitaplar"));
+        assertEquals("kuku", stems.get("kuku"));
+    }
+
+    @Test
+    public void testStemCache() throws Exception {
+        CharArrayCache stemCache = new CharArrayCache(64);
+        for (int i = 0; i < 2; i++) {
+            TokenStream stream = whitespaceMockTokenizer("kuş gribi aşısı kuku gribi");
+            stream = new Zemberek3StemFilter(stream, morphology, "maxLength", stemCache);
+            assertTokenStreamContents(stream, new String[]{"kuş", "grip", "aşı", "kuku", "grip"});
+        }
+        assertTrue(stemCache.hitCount() >= 6);
+    }
+
+    @Test
+    public void testLocalStemCache() throws Exception {
+        CharArrayCache stemCache = new CharArrayCache(64);
+        LongAdder hits = new LongAdder();
+        LongAdder misses = new LongAdder();
+        TokenStream stream = whitespaceMockTokenizer("kuş gribi kuş gribi kuş gribi");
+        stream = new Zemberek3StemFilter(stream, morphology, new Zemberek3StemFilter.Stemmer("minMorpheme", "lemmas", "maxLength"),
+                stemCache, new LocalCharArrayCache(16, hits, misses));
+        assertTokenStreamContents(stream, new String[]{"kuş", "grip", "kuş", "grip", "kuş", "grip"});
+
+        // the second occurrences are promoted from the shared cache, the third ones are local hits
+        assertEquals(2, stemCache.hitCount());
+        assertEquals(2, stemCache.missCount());
+        assertEquals(2, hits.sum());
+        assertEquals(4, misses.sum());
+    }
+
+    @Test
+    public void testSharedMorphology() throws Exception {
+        Zemberek3StemFilterFactory first = new Zemberek3StemFilterFactory(new HashMap<>());
+        Zemberek3StemFilterFactory second = new Zemberek3StemFilterFactory(new HashMap<>());
+        first.inform(new ClasspathResourceLoader(getClass()));
+        second.inform(new ClasspathResourceLoader(getClass()));
+
+        // same configuration as createWithDefaults
+        assertSame(morphology, first.getMorphology());
+        assertSame(morphology, second.getMorphology());
+
+        Map<String, String> args = new HashMap<>();
+        args.put("cacheSize", "100");
+        Zemberek3StemFilterFactory other = new Zemberek3StemFilterFactory(args);
+        other.inform(new ClasspathResourceLoader(getClass()));
+        assertNotSame(morphology, other.getMorphology());
+        assertEquals(100, other.getMorphology().getCache().maxSize());
+        // only the caches differ, so the lexicon and analyzer are shared
+        assertSame(morphology.getCore(), other.getMorphology().getCore());
+
+        first.close();
+        second.close();
+        other.close();
+        assertSame(morphology, MyTurkishMorphology.createWithDefaults());
+    }
+
+    @Test
+    public void testLexiconSnapshot() throws Exception {
+        ResourceLoader loader = new ResourceLoader() {
+            @Override
+            public InputStream openResource(String resource) {
+                return new ByteArrayInputStream("kitap\nkalem\n".getBytes(StandardCharsets.UTF_8));
+            }
+
+            @Override
+            public <T> Class<? extends T> findClass(String cname, Class<T> expectedType) {
+                throw new UnsupportedOperationException(cname);
+            }
+        };
+        Path dir = createTempDir();
+
+        for (int i = 1; i <= 2; i++) {
+            Map<String, String> args = new HashMap<>();
+            args.put("dictionary", "test.dict");
+            args.put("snapshotDir", dir.toString());
+            // a distinct configuration each time, so that the second factory does not share the first lexicon
+            args.put("informal", Boolean.toString(i == 2));
+            Zemberek3StemFilterFactory factory = new Zemberek3StemFilterFactory(args);
+            factory.inform(loader);
+            try {
+                List<Path> snapshots = new ArrayList<>();
+                try (Stream<Path> files = Files.list(dir)) {
+                    files.filter(p -> p.getFileName().toString().endsWith(".bin")).forEach(snapshots::add);
+                }
+                assertEquals(1, snapshots.size());
+                if (i == 1) {
+                    TokenStream stream = factory.create(whitespaceMockTokenizer("kitaplar kalemler ortaklar"));
+                    assertTokenStreamContents(stream, new String[]{"kitap", "kalem", "ortaklar"});
+                    // a snapshot with a word the text dictionary lacks tells whether the next factory reads it
+                    DictionarySerializer.save(RootLexicon.fromLines("kitap", "kalem", "ortak"), snapshots.get(0));
+                } else {
+                    TokenStream stream = factory.create(whitespaceMockTokenizer("kitaplar kalemler ortaklar"));
+                    assertTokenStreamContents(stream, new String[]{"kitap", "kalem", "ortak"});
+                }
+            } finally {
+                factory.close();
+            }
+        }
+    }
+
+    @Test
+    public void testStemmerOptions() throws Exception {
+        Zemberek3StemFilter.Stemmer stemmer = new Zemberek3StemFilter.Stemmer("all", "stems", "minLength");
+        TokenStream stream = new Zemberek3StemFilter(whitespaceMockTokenizer("kitaplar"), morphology, stemmer, null);
+        assertTokenStreamContents(stream, new String[]{"kitap"});
+
+        Map<String, String> args = new HashMap<>();
+        args.put("selection", "fewest");
+        expectThrows(IllegalArgumentException.class, () -> new Zemberek3StemFilterFactory(args));
+    }
+
+    @Test
+    public void testAsyncInit() throws Exception {
+        Map<String, String> args = new HashMap<>();
+        args.put("async", "true");
+        args.put("cacheSize", "50");
+        Zemberek3StemFilterFactory factory = new Zemberek3StemFilterFactory(args);
+        factory.inform(new ClasspathResourceLoader(getClass()));
+        try {
+            TokenStream stream = factory.create(whitespaceMockTokenizer("kuş gribi aşısı"));
+            assertTokenStreamContents(stream, new String[]{"kuş", "grip", "aşı"});
+            assertEquals(50, factory.getMorphology().getCache().maxSize());
+        } finally {
+            factory.close();
+        }
+
+        args.put("initTimeout", "0");
+        expectThrows(IllegalArgumentException.class, () -> new Zemberek3StemFilterFactory(args));
+    }
+
     @Test
     public void test4SP() throws Exception {
 